@@ -0,0 +1,96 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.abi;
+
+import com.esaulpaugh.headlong.abi.DecodeResult;
+import com.esaulpaugh.headlong.abi.Function;
+import com.esaulpaugh.headlong.abi.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/** Throughput of {@link Function#decodeReturnBatch} as the number of worker threads grows. */
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1)
+@Measurement(iterations = THREE)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MeasureBatchDecode {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final Function F = Function.parse("balances(address[])", "(uint256[],string,bool)");
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    private ForkJoinPool pool;
+    private List<byte[]> payloads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        payloads = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final BigInteger[] balances = new BigInteger[1 + i % 8];
+            for (int j = 0; j < balances.length; j++) {
+                balances[j] = BigInteger.valueOf(i).shiftLeft(j * 24);
+            }
+            payloads.add(F.getOutputs().encode(Tuple.of(balances, "token" + i, i % 3 == 0)).array());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void decode_return_batch(Blackhole blackhole) {
+        final List<DecodeResult<Tuple>> results = F.decodeReturnBatch(payloads, pool);
+        blackhole.consume(results);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void decode_return_sequential(Blackhole blackhole) {
+        for (byte[] payload : payloads) {
+            blackhole.consume(F.decodeReturn(payload));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.abi;
+
+import com.esaulpaugh.headlong.abi.Address;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/** Per-address cost of EIP-55 checksumming: {@link Address#toString()} with and without the cache, and the batch API. */
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = THREE)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeasureChecksum {
+
+    private static final int N = 2048;
+
+    @Param({ "0", "4096" })
+    public int cacheCapacity;
+
+    private final Address[] addresses = new Address[N];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random r = new Random(0x5EEDL);
+        final StringBuilder sb = new StringBuilder(42);
+        for (int i = 0; i < N; i++) {
+            sb.setLength(0);
+            sb.append("0x");
+            for (int j = 0; j < 40; j++) {
+                sb.append(Character.forDigit(r.nextInt(16), 16));
+            }
+            addresses[i] = Address.wrap(Address.toChecksumAddress(sb.toString()));
+        }
+        Address.setChecksumCacheCapacity(cacheCapacity);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Address.setChecksumCacheCapacity(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void to_string(Blackhole blackhole) {
+        for (Address a : addresses) {
+            blackhole.consume(a.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void to_checksum_address_string(Blackhole blackhole) {
+        for (Address a : addresses) {
+            blackhole.consume(Address.toChecksumAddress(a.value()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void batch(Blackhole blackhole) {
+        blackhole.consume(Address.toChecksumAddresses(addresses));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.abi;
+
+import com.esaulpaugh.headlong.abi.ABIObject;
+import com.esaulpaugh.headlong.abi.ABIParser;
+import com.esaulpaugh.headlong.abi.ABIType;
+import com.esaulpaugh.headlong.abi.ABITypeInterner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Not a JMH benchmark. Parses many ERC-20-like contract ABIs, with and without an {@link ABITypeInterner}, and prints
+ * the heap retained by each registry. Run with a fixed heap, e.g. {@code -Xms1g -Xmx1g}, for stable numbers.
+ */
+public class MeasureInternerHeap {
+
+    private static final int CONTRACTS = 5_000;
+
+    private static final String ABI = "[" +
+            "{\"type\":\"function\",\"name\":\"transfer\",\"inputs\":[{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"amount\",\"type\":\"uint256\"}],\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}]}," +
+            "{\"type\":\"function\",\"name\":\"approve\",\"inputs\":[{\"name\":\"spender\",\"type\":\"address\"},{\"name\":\"amount\",\"type\":\"uint256\"}],\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}]}," +
+            "{\"type\":\"function\",\"name\":\"transferFrom\",\"inputs\":[{\"name\":\"from\",\"type\":\"address\"},{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"amount\",\"type\":\"uint256\"}],\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}]}," +
+            "{\"type\":\"function\",\"name\":\"balanceOf\",\"inputs\":[{\"name\":\"account\",\"type\":\"address\"}],\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}]}," +
+            "{\"type\":\"function\",\"name\":\"allowance\",\"inputs\":[{\"name\":\"owner\",\"type\":\"address\"},{\"name\":\"spender\",\"type\":\"address\"}],\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}]}," +
+            "{\"type\":\"function\",\"name\":\"multicall\",\"inputs\":[{\"name\":\"calls\",\"type\":\"tuple[]\",\"components\":[{\"name\":\"target\",\"type\":\"address\"},{\"name\":\"data\",\"type\":\"bytes\"}]}],\"outputs\":[{\"name\":\"results\",\"type\":\"bytes[]\"}]}," +
+            "{\"type\":\"event\",\"name\":\"Transfer\",\"inputs\":[{\"indexed\":true,\"name\":\"from\",\"type\":\"address\"},{\"indexed\":true,\"name\":\"to\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"value\",\"type\":\"uint256\"}]}," +
+            "{\"type\":\"event\",\"name\":\"Approval\",\"inputs\":[{\"indexed\":true,\"name\":\"owner\",\"type\":\"address\"},{\"indexed\":true,\"name\":\"spender\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"value\",\"type\":\"uint256\"}]}," +
+            "{\"type\":\"error\",\"name\":\"InsufficientBalance\",\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"amount\",\"type\":\"uint256\"}]}" +
+            "]";
+
+    public static void main(String[] args) {
+        final long baseline = usedHeap();
+        List<List<ABIObject>> plain = load(new ABIParser());
+        final long plainBytes = usedHeap() - baseline;
+        System.out.println("plain:    " + plainBytes / CONTRACTS + " bytes/contract");
+        plain = null;
+
+        final ABITypeInterner interner = new ABITypeInterner();
+        final long baseline2 = usedHeap();
+        final List<List<ABIObject>> interned = load(new ABIParser(ABIType.FLAGS_NONE, null, interner));
+        final long internedBytes = usedHeap() - baseline2;
+        System.out.println("interned: " + internedBytes / CONTRACTS + " bytes/contract (" + interner.size() + " distinct types)");
+        System.out.println("ratio:    " + plainBytes / (double) internedBytes);
+        if (interned.size() != CONTRACTS) throw new AssertionError();
+    }
+
+    private static List<List<ABIObject>> load(ABIParser parser) {
+        final List<List<ABIObject>> registry = new ArrayList<>(CONTRACTS);
+        for (int i = 0; i < CONTRACTS; i++) {
+            registry.add(parser.parse(ABI));
+        }
+        return registry;
+    }
+
+    private static long usedHeap() {
+        final Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
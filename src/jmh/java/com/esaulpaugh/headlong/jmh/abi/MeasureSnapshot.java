@@ -0,0 +1,77 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.abi;
+
+import com.esaulpaugh.headlong.abi.ABIParser;
+import com.esaulpaugh.headlong.abi.ABISnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+@State(Scope.Thread)
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = THREE)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeasureSnapshot {
+
+    private static final String ABI;
+
+    static {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 120; i++) {
+            if (i % 4 == 3) {
+                sb.append("{\"type\":\"event\",\"name\":\"E").append(i).append("\",\"inputs\":[{\"indexed\":true,\"name\":\"from\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"value\",\"type\":\"uint256\"}]},");
+            } else {
+                sb.append("{\"type\":\"function\",\"name\":\"f").append(i).append("\",\"inputs\":[{\"name\":\"a\",\"type\":\"address\"},{\"name\":\"o\",\"type\":\"tuple[]\",\"components\":[{\"name\":\"x\",\"type\":\"uint128\"},{\"name\":\"y\",\"type\":\"bytes\"}]}],\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"stateMutability\":\"nonpayable\"},");
+            }
+        }
+        sb.setCharAt(sb.length() - 1, ']');
+        ABI = sb.toString();
+    }
+
+    private final ABIParser parser = new ABIParser();
+    private final ByteBuffer snapshot;
+
+    {
+        final byte[] bytes = ABISnapshot.write(parser.parse(ABI));
+        snapshot = ByteBuffer.allocateDirect(bytes.length);
+        snapshot.put(bytes).flip();
+    }
+
+    @Benchmark
+    public void parse_json(Blackhole blackhole) {
+        blackhole.consume(parser.parse(ABI));
+    }
+
+    @Benchmark
+    public void read_snapshot(Blackhole blackhole) {
+        blackhole.consume(ABISnapshot.read(snapshot));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.util;
+
+import com.joemelsha.crypto.hash.Keccak;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+@State(Scope.Thread)
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = THREE)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeasureKeccak {
+
+    private static final int BATCH = 1024;
+
+    @Param({ "32", "64", "128" })
+    public int shortLen;
+
+    private final byte[][] shortInputs = new byte[BATCH][];
+    private final byte[] out = new byte[BATCH * 32];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random r = new Random(0x5EEDL);
+        for (int i = 0; i < BATCH; i++) {
+            shortInputs[i] = new byte[shortLen];
+            r.nextBytes(shortInputs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void short_message_digest(Blackhole blackhole) {
+        final Keccak k = new Keccak(256);
+        for (byte[] in : shortInputs) {
+            blackhole.consume(k.digest(in));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void short_one_shot(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            final byte[] in = shortInputs[i];
+            Keccak.keccak256(in, 0, in.length, out, i * 32);
+        }
+        blackhole.consume(out);
+    }
+}
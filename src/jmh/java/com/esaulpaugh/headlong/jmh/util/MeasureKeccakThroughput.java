@@ -0,0 +1,89 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.util;
+
+import com.joemelsha.crypto.hash.Keccak;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+@State(Scope.Thread)
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1)
+@Measurement(iterations = THREE)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MeasureKeccakThroughput {
+
+    @Param({ "32", "1024", "1048576" })
+    public int len;
+
+    private final Keccak keccak = new Keccak(256);
+    private final byte[] out = new byte[32];
+    private byte[] array;
+    private ByteBuffer heap;
+    private ByteBuffer direct;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        array = new byte[len];
+        new Random(0x5EEDL).nextBytes(array);
+        heap = ByteBuffer.wrap(array);
+        direct = ByteBuffer.allocateDirect(len);
+        direct.put(array).flip();
+    }
+
+    @Benchmark
+    public byte[] byte_array() {
+        keccak.update(array, 0, array.length);
+        return keccak.digest();
+    }
+
+    @Benchmark
+    public byte[] heap_buffer() {
+        heap.clear();
+        keccak.update(heap);
+        return keccak.digest();
+    }
+
+    @Benchmark
+    public byte[] direct_buffer() {
+        direct.clear();
+        keccak.update(direct);
+        return keccak.digest();
+    }
+
+    @Benchmark
+    public byte[] one_shot() {
+        Keccak.keccak256(array, 0, array.length, out, 0);
+        return out;
+    }
+}
@@ -15,10 +15,12 @@
 */
 package com.esaulpaugh.headlong.abi;
 
+import com.esaulpaugh.headlong.util.Strings;
 import com.google.gson.Strictness;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
+import com.joemelsha.crypto.hash.Keccak;
 
 import java.io.BufferedReader;
 import java.io.CharArrayWriter;
@@ -31,11 +33,13 @@ import java.io.Writer;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /** For parsing JSON representations of {@link ABIObject}s according to the ABI specification. */
 public final class ABIJSON {
@@ -281,8 +285,17 @@ public final class ABIJSON {
     private static final int SEEN_INTERNAL_TYPE    = 1 << 7;
     private static final int SEEN_INDEXED          = 1 << 8;
 
-    @SuppressWarnings("unchecked")
     static <T extends ABIObject> T tryParseStreaming(JsonReader reader, Set<TypeEnum> types, MessageDigest digest, int flags) throws IOException {
+        return tryParseStreaming(reader, types, digest, flags, null, null);
+    }
+
+    /**
+     * Skips objects whose type is not in {@code types} or whose name fails {@code names} without building any types, and
+     * functions whose selector fails {@code selectors} as soon as their name and inputs are known, without building their
+     * outputs or digesting.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends ABIObject> T tryParseStreaming(JsonReader reader, Set<TypeEnum> types, MessageDigest digest, int flags, Predicate<String> names, Predicate<byte[]> selectors) throws IOException {
         reader.beginObject();
         TypeEnum t = null;
         String name = null;
@@ -291,26 +304,37 @@ public final class ABIJSON {
         String stateMutability = null;
         Boolean anonymous = null;
         int seen = 0;
+        boolean selected = selectors == null;
         do {
             switch (reader.nextName()) {
             case TYPE:
                 seen |= requireUnseen(SEEN_TYPE, seen, TYPE);
                 t = TypeEnum.parse(reader.nextString());
                 if (!types.contains(t)) {
-                    // skip this JSON object. for best performance, "type" should be declared first
-                    while (reader.peek() != JsonToken.END_OBJECT) {
-                        reader.skipValue();
-                    }
-                    reader.endObject();
+                    skipRest(reader); // for best performance, "type" should be declared first
+                    return null;
+                }
+                break;
+            case NAME:
+                seen |= requireUnseen(SEEN_NAME, seen, NAME);
+                name = reader.nextString();
+                if (names != null && !names.test(name)) {
+                    skipRest(reader); // for best performance, "name" should precede "inputs" and "outputs"
                     return null;
                 }
-                continue;
-            case NAME: seen |= requireUnseen(SEEN_NAME, seen, NAME); name = reader.nextString(); continue;
-            case INPUTS: seen |= requireUnseen(SEEN_INPUTS, seen, INPUTS); inputs = parseTupleType(reader, flags); continue;
+                break;
+            case INPUTS: seen |= requireUnseen(SEEN_INPUTS, seen, INPUTS); inputs = parseTupleType(reader, flags); break;
             case OUTPUTS: seen |= requireUnseen(SEEN_OUTPUTS, seen, OUTPUTS); outputs = parseTupleType(reader, flags); continue;
             case STATE_MUTABILITY: seen |= requireUnseen(SEEN_STATE_MUTABILITY, seen, STATE_MUTABILITY); stateMutability = reader.nextString(); continue;
             case ANONYMOUS: seen |= requireUnseen(SEEN_ANONYMOUS, seen, ANONYMOUS); anonymous = reader.nextBoolean(); continue;
-            default: reader.skipValue();
+            default: reader.skipValue(); continue;
+            }
+            if (!selected && t == TypeEnum.FUNCTION && name != null && inputs != null) {
+                if (!selectors.test(selector(name, inputs))) {
+                    skipRest(reader);
+                    return null;
+                }
+                selected = true;
             }
         } while (reader.peek() != JsonToken.END_OBJECT);
         reader.endObject();
@@ -320,6 +344,12 @@ public final class ABIJSON {
                 return null; // skip
             }
         }
+        if (name == null && names != null && !names.test(null)) {
+            return null;
+        }
+        if (!selected && t == TypeEnum.FUNCTION && name != null && !selectors.test(selector(name, inputs != null ? inputs : TupleType.empty(flags)))) {
+            return null;
+        }
         if (inputs == null) {
             inputs = TupleType.empty(flags);
         }
@@ -334,6 +364,185 @@ public final class ABIJSON {
         }
     }
 
+    private static byte[] selector(String name, TupleType<?> inputs) {
+        return hashSelector(name, inputs.canonicalType);
+    }
+
+    private static void skipRest(JsonReader reader) throws IOException {
+        while (reader.peek() != JsonToken.END_OBJECT) {
+            reader.skipValue();
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Splits a JSON array of ABI objects into per-object slices without constructing any {@link ABIType}s, reading only
+     * each object's type and name and, for functions, the input types needed to compute the selector.
+     */
+    static List<LazyABIObject> parseLazy(String json, Set<TypeEnum> types, int flags, ABITypeInterner interner, Predicate<String> names, Predicate<byte[]> selectors) {
+        final List<LazyABIObject> list = new ArrayList<>();
+        int i = skipWhitespace(json, 0);
+        if (i == json.length() || json.charAt(i) != '[') {
+            throw new IllegalArgumentException("expected JSON array");
+        }
+        i = skipWhitespace(json, i + 1);
+        if (i < json.length() && json.charAt(i) == ']') {
+            i++;
+        } else {
+            while (true) {
+                if (i == json.length() || json.charAt(i) != '{') {
+                    throw new IllegalArgumentException("expected JSON object at index " + i);
+                }
+                final int end = endOfObject(json, i);
+                final LazyABIObject e = tryParseLazy(json.substring(i, end), types, flags, interner, names);
+                if (e != null && (selectors == null || e.getType() != TypeEnum.FUNCTION || e.getName() == null || selectors.test(e.selector()))) {
+                    list.add(e);
+                }
+                i = skipWhitespace(json, end);
+                if (i < json.length() && json.charAt(i) == ']') {
+                    i++;
+                    break;
+                }
+                if (i == json.length() || json.charAt(i) != ',') {
+                    throw new IllegalArgumentException("expected ',' or ']' at index " + i);
+                }
+                i = skipWhitespace(json, i + 1);
+            }
+        }
+        i = skipWhitespace(json, i);
+        if (i != json.length()) {
+            throw new IllegalArgumentException("trailing characters at index " + i);
+        }
+        return list;
+    }
+
+    private static int skipWhitespace(String json, int i) {
+        while (i < json.length()) {
+            switch (json.charAt(i)) {
+            case ' ': case '\t': case '\n': case '\r': i++; continue;
+            default: return i;
+            }
+        }
+        return i;
+    }
+
+    /* returns the index after the '}' which closes the object opening at index start */
+    private static int endOfObject(String json, int start) {
+        int depth = 0;
+        for (int i = start; i < json.length(); i++) {
+            switch (json.charAt(i)) {
+            case '{': case '[': depth++; continue;
+            case '}': case ']': if (--depth == 0) return i + 1; continue;
+            case '"':
+                for (i++; i < json.length() && json.charAt(i) != '"'; i++) {
+                    if (json.charAt(i) == '\\') {
+                        i++;
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("unterminated JSON object at index " + start);
+    }
+
+    private static LazyABIObject tryParseLazy(String json, Set<TypeEnum> types, int flags, ABITypeInterner interner, Predicate<String> names) {
+        try (JsonReader reader = reader(json)) {
+            TypeEnum t = null;
+            String name = null;
+            reader.beginObject();
+            int seen = 0;
+            while ((seen & (SEEN_TYPE | SEEN_NAME)) != (SEEN_TYPE | SEEN_NAME) && reader.peek() != JsonToken.END_OBJECT) {
+                switch (reader.nextName()) {
+                case TYPE:
+                    seen |= SEEN_TYPE;
+                    t = TypeEnum.parse(reader.nextString());
+                    if (!types.contains(t)) {
+                        return null; // for best performance, "type" should be declared first
+                    }
+                    continue;
+                case NAME: seen |= SEEN_NAME; name = reader.nextString(); continue;
+                default: reader.skipValue();
+                }
+            }
+            if (t == null) {
+                t = TypeEnum.FUNCTION;
+                if (!types.contains(t)) {
+                    return null; // skip
+                }
+            }
+            if (names != null && !names.test(name)) {
+                return null;
+            }
+            return new LazyABIObject(t, name, json, flags, interner);
+        } catch (IOException io) {
+            throw new IllegalStateException(io);
+        }
+    }
+
+    /* computes a function's selector from the JSON object's name and input types */
+    static byte[] selector(String name, String json) {
+        String inputs = "()";
+        try (JsonReader reader = reader(json)) {
+            reader.beginObject();
+            while (reader.peek() != JsonToken.END_OBJECT) {
+                if (INPUTS.equals(reader.nextName())) {
+                    inputs = canonicalParams(reader);
+                    break;
+                }
+                reader.skipValue();
+            }
+        } catch (IOException io) {
+            throw new IllegalStateException(io);
+        }
+        return hashSelector(name, inputs);
+    }
+
+    private static byte[] hashSelector(String name, String inputs) {
+        final byte[] signature = Strings.decode(name + inputs, Strings.ASCII);
+        final byte[] selector = new byte[Function.SELECTOR_LEN];
+        Keccak.keccak256(signature, 0, signature.length, selector, 0, Function.SELECTOR_LEN);
+        return selector;
+    }
+
+    /* reads a parameter array and returns its canonical tuple type string */
+    private static String canonicalParams(JsonReader in) throws IOException {
+        final StringBuilder canonical = TupleType.newTypeBuilder();
+        in.beginArray();
+        while (in.peek() != JsonToken.END_ARRAY) {
+            String type = null;
+            String components = null;
+            in.beginObject();
+            while (in.peek() != JsonToken.END_OBJECT) {
+                switch (in.nextName()) {
+                case TYPE: type = in.nextString(); continue;
+                case COMPONENTS: components = canonicalParams(in); continue;
+                default: in.skipValue();
+                }
+            }
+            in.endObject();
+            canonical.append(canonicalType(type, components)).append(',');
+        }
+        in.endArray();
+        final int len = canonical.length();
+        if (len == 1) {
+            return "()";
+        }
+        canonical.setCharAt(len - 1, ')'); // overwrite trailing comma
+        return canonical.toString();
+    }
+
+    private static String canonicalType(String type, String components) {
+        if (type == null || type.isEmpty() || type.charAt(0) == '(') {
+            throw new IllegalArgumentException("bad type: " + type);
+        }
+        if (components != null && type.startsWith(TUPLE)) {
+            return components + type.substring(TUPLE.length());
+        }
+        final int arrayOpen = type.indexOf('[');
+        return arrayOpen < 0
+                ? TypeFactory.create(type).canonicalType
+                : TypeFactory.create(type.substring(0, arrayOpen)).canonicalType + type.substring(arrayOpen);
+    }
+
     private static int requireUnseen(int val, int seen, String key) {
         if ((seen & val) != 0) {
             throw new IllegalStateException("duplicate field: " + key);
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -38,6 +39,9 @@ public final class ABIParser {
     final int flags;
     final Set<TypeEnum> types;
     final transient boolean requiresDigest;
+    final ABITypeInterner interner;
+    final Predicate<String> names;
+    final Predicate<byte[]> selectors;
 
     public ABIParser() {
         this(ABIType.FLAGS_NONE, null);
@@ -56,7 +60,19 @@ public final class ABIParser {
      * @param types {@link Set} of {@link ABIObject} types to parse. Objects whose type is not in the set will be skipped
      */
     public ABIParser(int flags, Set<TypeEnum> types) {
+        this(flags, types, null);
+    }
+
+    /**
+     * @param flags flags with which to initialize the parsed {@link ABIObject}s. {@link ABIType#FLAGS_NONE} or {@link ABIType#FLAG_LEGACY_DECODE}
+     * @param types {@link Set} of {@link ABIObject} types to parse, or null for all
+     * @param interner  if non-null, the interner through which each parsed object's types are deduplicated, e.g. one shared by all of a registry's parsers
+     */
+    public ABIParser(int flags, Set<TypeEnum> types, ABITypeInterner interner) {
         this.flags = flags;
+        this.interner = interner;
+        this.names = null;
+        this.selectors = null;
         if (types == null) {
             this.types = ABIJSON._ALL;
             this.requiresDigest = true;
@@ -69,6 +85,38 @@ public final class ABIParser {
         }
     }
 
+    private ABIParser(ABIParser base, Predicate<String> names, Predicate<byte[]> selectors) {
+        this.flags = base.flags;
+        this.types = base.types;
+        this.requiresDigest = base.requiresDigest;
+        this.interner = base.interner;
+        this.names = names;
+        this.selectors = selectors;
+    }
+
+    /**
+     * Returns a parser like this one but which skips, at the JSON token level, entries whose name fails the given
+     * predicate. Skipped entries' types are never built. Unnamed entries (e.g. constructor, fallback) are tested with null.
+     *
+     * @param names the name predicate, or null to accept all names
+     * @return  the filtering parser
+     */
+    public ABIParser withNameFilter(Predicate<String> names) {
+        return new ABIParser(this, names, selectors);
+    }
+
+    /**
+     * Returns a parser like this one but which skips functions whose four-byte selector fails the given predicate.
+     * Each function's selector is hashed from its canonical signature before any of its types are built; other entries
+     * are unaffected.
+     *
+     * @param selectors the selector predicate, or null to accept all functions
+     * @return  the filtering parser
+     */
+    public ABIParser withSelectorFilter(Predicate<byte[]> selectors) {
+        return new ABIParser(this, names, selectors);
+    }
+
     public <T extends ABIObject> List<T> parse(String arrayJson) {
         return parse(reader(arrayJson));
     }
@@ -86,6 +134,18 @@ public final class ABIParser {
         return stream(reader(arrayStream));
     }
 
+    /**
+     * Reads a contract ABI JSON array without constructing any types, retaining each matching entry's JSON so that its
+     * {@link ABIObject} can be built on first use via {@link LazyABIObject#get()}. Only each entry's type and name are
+     * read up front. Entries are fully validated only when built.
+     *
+     * @param arrayJson the JSON array
+     * @return  the lazy entries, in order
+     */
+    public List<LazyABIObject> parseLazy(String arrayJson) {
+        return ABIJSON.parseLazy(arrayJson, types, flags, interner, names, selectors);
+    }
+
     /**
      * Parses the value for the given key as a contract ABI JSON array.
      *
@@ -174,9 +234,9 @@ public final class ABIParser {
         public boolean tryAdvance(Consumer<? super T> action) {
             try {
                 while (reader.peek() != JsonToken.END_ARRAY) {
-                    T e = ABIJSON.tryParseStreaming(reader, types, digest, flags);
+                    T e = ABIJSON.tryParseStreaming(reader, types, digest, flags, names, selectors);
                     if (e != null) {
-                        action.accept(e);
+                        action.accept(interner != null ? interner.internObject(e) : e);
                         return true;
                     }
                 }
@@ -208,7 +268,8 @@ public final class ABIParser {
     public boolean equals(Object o) {
         if (o instanceof ABIParser) {
             ABIParser other = (ABIParser) o;
-            return flags == other.flags && types.equals(other.types);
+            return flags == other.flags && types.equals(other.types) && interner == other.interner
+                    && names == other.names && selectors == other.selectors;
         }
         return false;
     }
@@ -0,0 +1,358 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.Strings;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary form of parsed {@link ABIObject}s which loads without JSON parsing or hashing. Strings (names, canonical
+ * types, internal types) are pooled in a table at the front of the snapshot and decoded once each; selectors and event
+ * signature hashes are stored precomputed. Snapshots may be read from a memory-mapped file via {@link #map(Path)}, so
+ * that processes on the same host share the page cache.
+ * <p>
+ * Layout (big-endian): magic, version, string count, strings (length-prefixed UTF-8), object count, objects.
+ */
+public final class ABISnapshot {
+
+    private ABISnapshot() {}
+
+    private static final int MAGIC = 0x484C4142; // "HLAB"
+    private static final byte VERSION = 1;
+
+    private static final byte NODE_UNIT = 0; // any type not containing a tuple, incl. arrays thereof
+    private static final byte NODE_TUPLE = 1;
+    private static final byte NODE_TUPLE_ARRAY = 2;
+
+    private static final int NULL_STRING = -1;
+    private static final int SIGNATURE_HASH_LEN = 32;
+
+    /**
+     * @param objects   the objects to serialize
+     * @return  the snapshot
+     */
+    public static byte[] write(List<? extends ABIObject> objects) {
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        final Body body = new Body(strings);
+        body.putInt(objects.size());
+        for (ABIObject o : objects) {
+            body.putObject(o);
+        }
+        final byte[][] encoded = new byte[strings.size()][];
+        int len = Integer.BYTES + 1 + Integer.BYTES;
+        int i = 0;
+        for (String s : strings.keySet()) {
+            encoded[i] = Strings.decode(s, Strings.UTF_8);
+            len += Integer.BYTES + encoded[i++].length;
+        }
+        final ByteBuffer bb = ByteBuffer.allocate(len + body.size);
+        bb.putInt(MAGIC).put(VERSION).putInt(encoded.length);
+        for (byte[] e : encoded) {
+            bb.putInt(e.length).put(e);
+        }
+        bb.put(body.buf, 0, body.size);
+        return bb.array();
+    }
+
+    /** @see #read(ByteBuffer) */
+    public static <T extends ABIObject> List<T> read(byte[] snapshot) {
+        return read(ByteBuffer.wrap(snapshot));
+    }
+
+    /**
+     * Reads the snapshot between the buffer's position and limit. The buffer's position is not modified.
+     *
+     * @param snapshot  the snapshot, e.g. a {@link java.nio.MappedByteBuffer}
+     * @return  the deserialized objects, in order
+     * @param <T>   the common type of the elements
+     * @throws IllegalArgumentException if the snapshot is malformed
+     */
+    public static <T extends ABIObject> List<T> read(ByteBuffer snapshot) {
+        final ByteBuffer bb = snapshot.duplicate().order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (bb.getInt() != MAGIC) {
+                throw new IllegalArgumentException("not a snapshot");
+            }
+            final byte version = bb.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("unsupported snapshot version: " + version);
+            }
+            return new Reader(bb).readObjects();
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalArgumentException("truncated snapshot", bue);
+        }
+    }
+
+    /**
+     * Maps the given file read-only and reads the snapshot it contains.
+     *
+     * @param file  the snapshot file
+     * @return  the deserialized objects, in order
+     * @param <T>   the common type of the elements
+     * @throws IOException  if the file cannot be mapped
+     */
+    public static <T extends ABIObject> List<T> map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private static final class Body {
+
+        private final Map<String, Integer> strings;
+        byte[] buf = new byte[1024];
+        int size;
+
+        Body(Map<String, Integer> strings) {
+            this.strings = strings;
+        }
+
+        void putObject(ABIObject o) {
+            final TypeEnum type = o.getType();
+            put((byte) type.ordinal());
+            putString(o.getName());
+            final TupleType<?> inputs = o.getInputs();
+            putInt(inputs.getFlags());
+            putTuple(inputs);
+            switch (type.ordinal()) {
+            case TypeEnum.ORDINAL_FUNCTION:
+            case TypeEnum.ORDINAL_RECEIVE:
+            case TypeEnum.ORDINAL_FALLBACK:
+            case TypeEnum.ORDINAL_CONSTRUCTOR:
+                final Function f = o.asFunction();
+                putTuple(f.getOutputs());
+                putString(f.getStateMutability());
+                putString(f.getHashAlgorithm());
+                put(f.selector());
+                return;
+            case TypeEnum.ORDINAL_EVENT:
+                final Event<?> e = o.asEvent();
+                put((byte) (e.isAnonymous() ? 1 : 0));
+                for (boolean b : e.getIndexManifest()) {
+                    put((byte) (b ? 1 : 0));
+                }
+                put(e.signatureHash());
+                return;
+            case TypeEnum.ORDINAL_ERROR: return;
+            default: throw new AssertionError();
+            }
+        }
+
+        private void putTuple(TupleType<?> tt) {
+            final int n = tt.size();
+            putInt(n);
+            for (int i = 0; i < n; i++) {
+                final ABIType<?> e = tt.get(i);
+                final ABIType<?> base = ArrayType.baseType(e);
+                if (base == e && e instanceof TupleType) {
+                    put(NODE_TUPLE);
+                    putTuple((TupleType<?>) e);
+                } else if (base instanceof TupleType) {
+                    put(NODE_TUPLE_ARRAY);
+                    putTuple((TupleType<?>) base);
+                    putString(e.canonicalType.substring(base.canonicalType.length()));
+                } else {
+                    put(NODE_UNIT);
+                    putString(e.canonicalType);
+                }
+                putString(tt.getElementName(i));
+                putString(tt.getElementInternalType(i));
+                put((byte) (tt.indexed != null && tt.indexed[i] ? 1 : 0));
+            }
+        }
+
+        private void putString(String s) {
+            if (s == null) {
+                putInt(NULL_STRING);
+                return;
+            }
+            Integer index = strings.get(s);
+            if (index == null) {
+                index = strings.size();
+                strings.put(s, index);
+            }
+            putInt(index);
+        }
+
+        void putInt(int val) {
+            ensure(Integer.BYTES);
+            buf[size++] = (byte) (val >>> 24);
+            buf[size++] = (byte) (val >>> 16);
+            buf[size++] = (byte) (val >>> 8);
+            buf[size++] = (byte) val;
+        }
+
+        private void put(byte b) {
+            ensure(1);
+            buf[size++] = b;
+        }
+
+        private void put(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        private void ensure(int n) {
+            if (size + n > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(size + n, buf.length << 1));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer bb;
+        private final String[] strings;
+        private final Map<String, ABIType<?>> units = new HashMap<>(); // shared instances for unitsFlags; cleared when flags change
+        private int unitsFlags;
+
+        Reader(ByteBuffer bb) {
+            this.bb = bb;
+            final int n = count();
+            this.strings = new String[n];
+            for (int i = 0; i < n; i++) {
+                final byte[] utf8 = new byte[count()];
+                bb.get(utf8);
+                strings[i] = Strings.encode(utf8, Strings.UTF_8);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <T extends ABIObject> List<T> readObjects() {
+            final int n = count();
+            final List<T> list = new ArrayList<>(Math.min(n, 1 << 16));
+            for (int i = 0; i < n; i++) {
+                list.add((T) readObject());
+            }
+            if (bb.hasRemaining()) {
+                throw new IllegalArgumentException("trailing bytes: " + bb.remaining());
+            }
+            return list;
+        }
+
+        private ABIObject readObject() {
+            final int ordinal = bb.get();
+            final String name = readString();
+            final int flags = bb.getInt();
+            final TupleType<?> inputs = readTuple(flags);
+            switch (ordinal) {
+            case TypeEnum.ORDINAL_FUNCTION:
+            case TypeEnum.ORDINAL_RECEIVE:
+            case TypeEnum.ORDINAL_FALLBACK:
+            case TypeEnum.ORDINAL_CONSTRUCTOR:
+                final TupleType<?> outputs = readTuple(flags);
+                final String stateMutability = readString();
+                final String hashAlgorithm = readString();
+                final byte[] selector = new byte[Function.SELECTOR_LEN];
+                bb.get(selector);
+                return new Function(TypeEnum.values()[ordinal], name, inputs, outputs, stateMutability, hashAlgorithm, selector);
+            case TypeEnum.ORDINAL_EVENT:
+                final boolean anonymous = bb.get() != 0;
+                final boolean[] indexed = new boolean[inputs.size()];
+                for (int i = 0; i < indexed.length; i++) {
+                    indexed[i] = bb.get() != 0;
+                }
+                final byte[] signatureHash = new byte[SIGNATURE_HASH_LEN];
+                bb.get(signatureHash);
+                return new Event<>(name, anonymous, inputs, indexed, signatureHash);
+            case TypeEnum.ORDINAL_ERROR: return new ContractError<>(name, inputs);
+            default: throw new IllegalArgumentException("unknown object type: " + ordinal);
+            }
+        }
+
+        private TupleType<?> readTuple(int flags) {
+            final int n = count();
+            if (n == 0) {
+                return TupleType.empty(flags);
+            }
+            final StringBuilder canonicalType = TupleType.newTypeBuilder();
+            final ABIType<?>[] elements = new ABIType<?>[n];
+            final String[] names = new String[n];
+            final String[] internalTypes = new String[n];
+            final boolean[] indexed = new boolean[n];
+            boolean dynamic = false;
+            for (int i = 0; i < n; i++) {
+                final ABIType<?> e = readElement(flags);
+                elements[i] = e;
+                canonicalType.append(e.canonicalType).append(',');
+                dynamic |= e.dynamic;
+                names[i] = readString();
+                internalTypes[i] = readString();
+                indexed[i] = bb.get() != 0;
+            }
+            canonicalType.setCharAt(canonicalType.length() - 1, ')');
+            return new TupleType<>(canonicalType.toString(), dynamic, elements, names, internalTypes, indexed, flags);
+        }
+
+        private ABIType<?> readElement(int flags) {
+            final byte node = bb.get();
+            switch (node) {
+            case NODE_UNIT: return unit(readString(), flags);
+            case NODE_TUPLE: return readTuple(flags);
+            case NODE_TUPLE_ARRAY:
+                final TupleType<?> base = readTuple(flags);
+                return TypeFactory.build(base.canonicalType + readString(), null, base, flags);
+            default: throw new IllegalArgumentException("unknown node: " + node);
+            }
+        }
+
+        private ABIType<?> unit(String canonicalType, int flags) {
+            if (flags != unitsFlags) {
+                units.clear();
+                unitsFlags = flags;
+            }
+            ABIType<?> t = units.get(canonicalType);
+            if (t == null) {
+                t = TypeFactory.create(flags, canonicalType);
+                units.put(canonicalType, t);
+            }
+            return t;
+        }
+
+        private String readString() {
+            final int index = bb.getInt();
+            if (index == NULL_STRING) {
+                return null;
+            }
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalArgumentException("bad string index: " + index);
+            }
+            return strings[index];
+        }
+
+        private int count() {
+            final int n = bb.getInt();
+            if (n < 0 || n > bb.remaining()) {
+                throw new IllegalArgumentException("bad count: " + n);
+            }
+            return n;
+        }
+    }
+}
@@ -37,6 +37,16 @@ public abstract class ABIType<J> {
      * Enables an incompatible decode mode. Strongly consider using {@link #FLAGS_NONE} instead.
      */
     public static final int FLAG_LEGACY_DECODE = 1;
+    /**
+     * Maps uint256 and int256 to {@link Uint256Type} and {@link Int256Type}, whose values are {@link Uint256} and
+     * {@link Int256} instead of {@link java.math.BigInteger}. May be combined with other flags.
+     */
+    public static final int FLAG_INT256_LIMBS = 2;
+    /**
+     * Maps bytes, bytesN, and string to types whose values are {@link BytesView}s instead of {@code byte[]} or
+     * {@link String}. Decoding from an array-backed buffer then shares the input array rather than copying from it.
+     */
+    public static final int FLAG_BYTES_VIEW = 4;
     static final int FLAGS_UNSET = 0x80000000;
     static final int OFFSET_LENGTH_BYTES = UNIT_LENGTH_BYTES;
     static final byte ZERO_BYTE = (byte) 0x00;
@@ -59,6 +69,8 @@ public abstract class ABIType<J> {
     public static final int TYPE_CODE_ARRAY = 6;
     public static final int TYPE_CODE_TUPLE = 7;
     public static final int TYPE_CODE_ADDRESS = 8;
+    public static final int TYPE_CODE_UINT256 = 9;
+    public static final int TYPE_CODE_INT256 = 10;
 
     public static final ABIType<?>[] EMPTY_ARRAY = new ABIType<?>[0];
 
@@ -79,6 +91,8 @@ public abstract class ABIType<J> {
                                         || c == BigDecimalType.class
                                         || (c == AddressType.class && /* enforce singleton */ AddressType.INSTANCE == null)
                                         || (c == BooleanType.class && /* enforce singleton */ BooleanType.INSTANCE == null)
+                                        || (c == Uint256Type.class && /* enforce singleton */ Uint256Type.INSTANCE == null)
+                                        || (c == Int256Type.class && /* enforce singleton */ Int256Type.INSTANCE == null)
                                         )
                                     )
                                 || (c == ByteType.class && /* enforce singleton */ ByteType.INSTANCE == null) ;
@@ -240,6 +254,40 @@ public abstract class ABIType<J> {
         return decode(buffer, newUnitBuffer());
     }
 
+    /**
+     * Equivalent to {@link #decode(byte[])} but draws scratch space from the given context instead of allocating it.
+     *
+     * @param array the encoding
+     * @param ctx   the context, not to be used concurrently by other threads
+     * @return the decoded value
+     * @throws IllegalArgumentException if the data is malformed or if bytes remain
+     */
+    public final J decode(byte[] array, DecodeContext ctx) {
+        return decode(array, 0, array.length, ctx);
+    }
+
+    J decode(byte[] buffer, int offset, int len, DecodeContext ctx) {
+        ByteBuffer bb = ctx.wrap(buffer, offset, len);
+        J decoded = decode(bb, ctx.unitBuffer);
+        final int remaining = bb.remaining();
+        if (remaining == 0) {
+            return decoded;
+        }
+        throw new IllegalArgumentException("unconsumed bytes: " + remaining + " remaining");
+    }
+
+    /**
+     * Equivalent to {@link #decode(ByteBuffer)} but draws scratch space from the given context instead of allocating it.
+     *
+     * @param buffer    the buffer containing the encoded data
+     * @param ctx   the context, not to be used concurrently by other threads
+     * @return the decoded value
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public final J decode(ByteBuffer buffer, DecodeContext ctx) {
+        return decode(buffer, ctx.unitBuffer);
+    }
+
     /**
      * Decodes the data at the buffer's current position according to this {@link ABIType}.
      *
@@ -250,6 +298,43 @@ public abstract class ABIType<J> {
      */
     abstract J decode(ByteBuffer buffer, byte[] unitBuffer);
 
+    /**
+     * Checks that the given array holds exactly one well-formed encoding of this type, applying the same rules as
+     * {@link #decode(byte[])} but without creating any values.
+     *
+     * @param encoded   the encoding to check
+     * @throws IllegalArgumentException if the data is malformed or if bytes remain
+     */
+    public final void validateEncoding(byte[] encoded) {
+        final ByteBuffer bb = ByteBuffer.wrap(encoded);
+        scan(bb);
+        final int remaining = bb.remaining();
+        if (remaining != 0) {
+            throw new IllegalArgumentException("unconsumed bytes: " + remaining + " remaining");
+        }
+    }
+
+    /**
+     * Checks that the data at the buffer's current position is a well-formed encoding of this type, applying the same
+     * rules as {@link #decode(ByteBuffer)}, including those of {@link #FLAG_LEGACY_DECODE}. No values are created and,
+     * absent {@link #FLAG_LEGACY_DECODE}, nothing is allocated unless the data is malformed. Advances the buffer's
+     * position as decode would.
+     *
+     * @param buffer    the buffer containing the encoded data
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public final void validateEncoding(ByteBuffer buffer) {
+        scan(buffer);
+    }
+
+    /**
+     * Walks the encoding at the buffer's current position the way {@link #decode(ByteBuffer, byte[])} would, throwing
+     * the same exceptions, but without producing a value.
+     *
+     * @param buffer    the buffer containing the encoded data
+     */
+    abstract void scan(ByteBuffer buffer);
+
     @SuppressWarnings("unchecked")
     public final J decodePacked(byte[] buffer) {
         PackedDecoder.checkDynamics(this);
@@ -291,6 +376,18 @@ public abstract class ABIType<J> {
         dest.putInt(val);
     }
 
+    /**
+     * Writes into a previously reserved head slot the offset of the tail about to be written at {@code dest}'s current
+     * position. Because offsets are derived from the write position, encoding never needs to re-measure dynamic elements.
+     *
+     * @param start     the position of the start of the enclosing tuple or array encoding
+     * @param headPos   the position of the reserved (zeroed) head slot
+     * @param dest      the destination buffer
+     */
+    static void insertOffset(int start, int headPos, ByteBuffer dest) {
+        dest.putInt(headPos + (OFFSET_LENGTH_BYTES - Integer.BYTES), dest.position() - start);
+    }
+
     static void insertInt(long val, ByteBuffer dest) {
         insertPadding(UNIT_LENGTH_BYTES - Long.BYTES, val < 0, dest);
         dest.putLong(val);
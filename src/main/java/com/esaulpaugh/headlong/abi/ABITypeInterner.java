@@ -0,0 +1,250 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deduplicates structurally equal {@link ABIType} graphs so that, e.g., thousands of {@link Function}s taking
+ * {@code (address,uint256)} share a single {@link TupleType} instance and a single canonical type {@link String}. Types
+ * returned by the same interner may be compared by reference: they are identical if and only if they are equal and
+ * have the same element names, internal types and indexed flags, recursively. Thread-safe.
+ */
+public final class ABITypeInterner {
+
+    private final ConcurrentHashMap<Object, ABIType<?>> types = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+
+    /** @return the number of distinct types interned */
+    public int size() {
+        return types.size();
+    }
+
+    /**
+     * Returns the canonical instance structurally equal to {@code type}, interning {@code type}'s element types first.
+     *
+     * @param type  the type
+     * @return  the canonical instance
+     * @param <T>   the type's class
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ABIType<?>> T intern(T type) {
+        final ABIType<?> existing = types.get(keyFor(type));
+        return existing != null ? (T) existing : (T) add(type);
+    }
+
+    /**
+     * Returns a {@link Function} equal to {@code f} whose input and output types are interned, or {@code f} itself if
+     * they already were. The selector is copied, not recomputed.
+     */
+    public Function intern(Function f) {
+        final TupleType<?> in = intern(f.getInputs());
+        final TupleType<?> out = intern(f.getOutputs());
+        return in == f.getInputs() && out == f.getOutputs() ? f : new Function(f, in, out);
+    }
+
+    /** Returns an {@link Event} equal to {@code e} whose input types are interned, or {@code e} itself if they already were. */
+    public <J extends Tuple> Event<J> intern(Event<J> e) {
+        final TupleType<J> in = intern(e.getInputs());
+        return in == e.getInputs() ? e : new Event<>(e.getName(), e.isAnonymous(), in, e.getIndexManifest());
+    }
+
+    /** Returns a {@link ContractError} equal to {@code e} whose input types are interned, or {@code e} itself if they already were. */
+    public <J extends Tuple> ContractError<J> intern(ContractError<J> e) {
+        final TupleType<J> in = intern(e.getInputs());
+        return in == e.getInputs() ? e : new ContractError<>(e.getName(), in);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends ABIObject> T internObject(T o) {
+        if (o.isFunction()) return (T) intern(o.asFunction());
+        if (o.isEvent()) return (T) intern(o.asEvent());
+        return (T) intern((ContractError<?>) o);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ABIType<?> add(ABIType<?> type) {
+        final ABIType<?> canonical;
+        switch (type.typeCode()) {
+        case ABIType.TYPE_CODE_ARRAY: {
+            final ArrayType<?, ?, ?> a = type.asArrayType();
+            final ABIType<?> elementType = intern(a.getElementType());
+            final String canonicalType = internString(a.canonicalType);
+            canonical = elementType == a.getElementType() && canonicalType == a.canonicalType
+                    ? a
+                    : new ArrayType(canonicalType, a.clazz(), elementType, a.getLength(), null, a.getFlags());
+            break;
+        }
+        case ABIType.TYPE_CODE_TUPLE: {
+            final TupleType<?> t = type.asTupleType();
+            final ABIType<?>[] elementTypes = new ABIType<?>[t.elementTypes.length];
+            final String canonicalType = internString(t.canonicalType);
+            boolean same = canonicalType == t.canonicalType;
+            for (int i = 0; i < elementTypes.length; i++) {
+                elementTypes[i] = intern(t.elementTypes[i]);
+                same &= elementTypes[i] == t.elementTypes[i];
+            }
+            final String[] names = internStrings(t.elementNames);
+            final String[] internalTypes = internStrings(t.elementInternalTypes);
+            final boolean[] indexed = isEmpty(t.indexed) ? null : t.indexed;
+            same &= names == t.elementNames && internalTypes == t.elementInternalTypes && indexed == t.indexed;
+            canonical = same
+                    ? t
+                    : new TupleType<>(canonicalType, t.dynamic, elementTypes, names, internalTypes, indexed, t.getFlags());
+            break;
+        }
+        default: canonical = type; // unit types have no structure beyond their class, canonical type and flags
+        }
+        final ABIType<?> prev = types.putIfAbsent(keyFor(canonical), canonical);
+        return prev != null ? prev : canonical;
+    }
+
+    private String internString(String s) {
+        final String prev = strings.putIfAbsent(s, s);
+        return prev != null ? prev : s;
+    }
+
+    /* returns the input array if all of its elements are already interned, or null if all are null */
+    private String[] internStrings(String[] arr) {
+        if (isEmpty(arr)) {
+            return null;
+        }
+        String[] out = arr;
+        for (int i = 0; i < arr.length; i++) {
+            final String s = arr[i];
+            if (s != null) {
+                final String interned = internString(s);
+                if (interned != s) {
+                    if (out == arr) {
+                        out = Arrays.copyOf(arr, arr.length);
+                    }
+                    out[i] = interned;
+                }
+            }
+        }
+        return out;
+    }
+
+    /* parsers variously represent "no names" or "none indexed" by null or by an array of nulls or falses */
+    private static boolean isEmpty(String[] arr) {
+        if (arr != null) {
+            for (String s : arr) {
+                if (s != null) return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEmpty(boolean[] arr) {
+        if (arr != null) {
+            for (boolean b : arr) {
+                if (b) return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equivalent(String[] a, String[] b) {
+        return isEmpty(a) ? isEmpty(b) : Arrays.equals(a, b);
+    }
+
+    private static boolean equivalent(boolean[] a, boolean[] b) {
+        return isEmpty(a) ? isEmpty(b) : Arrays.equals(a, b);
+    }
+
+    private static Object keyFor(ABIType<?> type) {
+        switch (type.typeCode()) {
+        case ABIType.TYPE_CODE_ARRAY: return new ArrayKey(type.asArrayType());
+        case ABIType.TYPE_CODE_TUPLE: return new TupleKey(type.asTupleType());
+        default: return new UnitKey(type);
+        }
+    }
+
+    /* also compares value classes, e.g. so that uint256 decoding to Uint256 never resolves to uint256 decoding to BigInteger */
+    private static final class UnitKey {
+
+        private final ABIType<?> type;
+
+        UnitKey(ABIType<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof UnitKey && type.clazz() == ((UnitKey) o).type.clazz() && type.equals(((UnitKey) o).type);
+        }
+    }
+
+    /* compares element types by equality, which for interned element types implies identity */
+    private static final class ArrayKey {
+
+        private final ArrayType<?, ?, ?> type;
+
+        ArrayKey(ArrayType<?, ?, ?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ArrayKey && type.equals(((ArrayKey) o).type) && keyFor(type.getElementType()).equals(keyFor(((ArrayKey) o).type.getElementType()));
+        }
+    }
+
+    private static final class TupleKey {
+
+        private final TupleType<?> type;
+
+        TupleKey(TupleType<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + (isEmpty(type.elementNames) ? 0 : Arrays.hashCode(type.elementNames));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TupleKey)) {
+                return false;
+            }
+            final TupleType<?> other = ((TupleKey) o).type;
+            if (!type.equals(other)
+                    || !equivalent(type.elementNames, other.elementNames)
+                    || !equivalent(type.elementInternalTypes, other.elementInternalTypes)
+                    || !equivalent(type.indexed, other.indexed)) {
+                return false;
+            }
+            for (int i = 0; i < type.elementTypes.length; i++) {
+                if (!keyFor(type.elementTypes[i]).equals(keyFor(other.elementTypes[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
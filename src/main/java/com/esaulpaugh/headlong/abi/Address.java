@@ -19,6 +19,7 @@ import com.esaulpaugh.headlong.util.FastHex;
 import com.joemelsha.crypto.hash.Keccak;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -33,9 +34,15 @@ public final class Address {
     private static final int PREFIX_LEN = 2;
     private static final int ADDRESS_LEN_CHARS = PREFIX_LEN + ADDRESS_HEX_CHARS;
     private static final int HEX_RADIX = 16;
+    private static final int HASH_LEN = ADDRESS_DATA_BYTES; // only the first 20 bytes of the hash are needed
     public static final int MAX_LABEL_LEN = 36;
 
-    private final BigInteger value;
+    /* the 160-bit value in big-endian order: 32 + 64 + 64 bits */
+    private final int hi;
+    private final long mid;
+    private final long lo;
+
+    private BigInteger value; // created on demand
 
     /**
      * An informational String identifying or describing this Address.
@@ -43,62 +50,168 @@ public final class Address {
     private final String label;
 
     Address(BigInteger value) {
-        this(value, null);
+        this(validateValue(value), null);
     }
 
     private Address(BigInteger value, String label) {
+        this((int) value.shiftRight(Long.SIZE * 2).longValue(), value.shiftRight(Long.SIZE).longValue(), value.longValue(), label);
         this.value = value;
+    }
+
+    Address(int hi, long mid, long lo, String label) {
+        this.hi = hi;
+        this.mid = mid;
+        this.lo = lo;
         this.label = label;
     }
 
-    public BigInteger value() {
+    private static BigInteger validateValue(BigInteger value) {
+        AddressType.ADDRESS_INNER.validateInternal(value);
         return value;
     }
 
+    /** Reads an address from the 20 bytes at {@code offset}. */
+    static Address fromBytes(byte[] bytes, int offset) {
+        return fromBytes(bytes, offset, null);
+    }
+
+    private static Address fromBytes(byte[] bytes, int offset, String label) {
+        return new Address(
+                (int) getBytes(bytes, offset, Integer.BYTES),
+                getBytes(bytes, offset + Integer.BYTES, Long.BYTES),
+                getBytes(bytes, offset + Integer.BYTES + Long.BYTES, Long.BYTES),
+                label
+        );
+    }
+
+    private static long getBytes(byte[] bytes, int offset, int len) {
+        long v = 0L;
+        for (int i = offset; i < offset + len; i++) {
+            v = (v << Byte.SIZE) | (bytes[i] & 0xFFL);
+        }
+        return v;
+    }
+
+    /** Puts the 20 bytes of this address into the buffer. */
+    void put(ByteBuffer dest) {
+        dest.putInt(hi).putLong(mid).putLong(lo);
+    }
+
+    public BigInteger value() {
+        BigInteger v = value;
+        if (v == null) {
+            value = v = Uint256.toBigInteger(true, 0L, hi & 0xFFFFFFFFL, mid, lo); // racy but idempotent, as with String.hashCode
+        }
+        return v;
+    }
+
     public String getLabel() {
         return label;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * (31 * hi + Long.hashCode(mid)) + Long.hashCode(lo);
     }
 
     @Override
     public boolean equals(Object o) {
         if (o instanceof Address) {
             Address other = (Address) o;
-            return value.equals(other.value);
+            return lo == other.lo && mid == other.mid && hi == other.hi;
         }
         return false;
     }
 
     @Override
     public String toString() {
-        return toChecksumAddress(value);
+        final BoundedCache<Address, String> cache = checksumCache;
+        if (cache == null) {
+            return doChecksum(putLowercaseHex(new byte[ADDRESS_LEN_CHARS]), new byte[HASH_LEN]);
+        }
+        String checksummed = cache.get(this);
+        if (checksummed == null) {
+            checksummed = doChecksum(putLowercaseHex(new byte[ADDRESS_LEN_CHARS]), new byte[HASH_LEN]);
+            cache.put(this, checksummed);
+        }
+        return checksummed;
+    }
+
+    private static volatile BoundedCache<Address, String> checksumCache;
+
+    /**
+     * Sets the maximum number of checksummed {@link String}s which {@link #toString()} retains, shared by all threads.
+     * Least recently used entries are evicted first. Zero, the default, disables caching. Replacing the capacity
+     * discards the existing entries and counters.
+     *
+     * @param maxEntries    the approximate capacity, or 0
+     */
+    public static void setChecksumCacheCapacity(int maxEntries) {
+        checksumCache = TypeFactory.newCache(maxEntries);
+    }
+
+    /** @return the checksum cache's counters since its capacity was last set */
+    public static CacheStats checksumCacheStats() {
+        return TypeFactory.stats(checksumCache);
+    }
+
+    /**
+     * Checksums many addresses, reusing the same scratch buffers for all of them.
+     *
+     * @param addresses the addresses
+     * @return  the EIP-55 checksum address of each, in order
+     */
+    public static String[] toChecksumAddresses(Address... addresses) {
+        final String[] out = new String[addresses.length];
+        final byte[] addressBytes = new byte[ADDRESS_LEN_CHARS];
+        final byte[] hash = new byte[HASH_LEN];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = doChecksum(addresses[i].putLowercaseHex(addressBytes), hash);
+        }
+        return out;
+    }
+
+    /* writes this address into dest as "0x" followed by 40 lowercase hex digits */
+    private byte[] putLowercaseHex(byte[] dest) {
+        dest[0] = '0';
+        dest[1] = 'x';
+        putHex(lo, Long.SIZE, dest, ADDRESS_LEN_CHARS);
+        putHex(mid, Long.SIZE, dest, ADDRESS_LEN_CHARS - Long.SIZE / 4);
+        putHex(hi, Integer.SIZE, dest, PREFIX_LEN + Integer.SIZE / 4);
+        return dest;
+    }
+
+    private static final byte[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
+
+    /* writes the low bits of val as lowercase hex, ending just before index end */
+    private static void putHex(long val, int bits, byte[] dest, int end) {
+        for (int i = end - bits / 4; i < end; i++) {
+            bits -= 4;
+            dest[i] = HEX_DIGITS[(int) (val >>> bits) & 0xF];
+        }
     }
 
     public static Address wrap(final String checksumAddress) {
-        return new Address(validateAndDecodeAddress(checksumAddress));
+        return fromBytes(validateAndDecodeAddress(checksumAddress), 0);
     }
 
     public static Address wrap(final String checksumAddress, final String label) {
         if (label != null && label.length() > MAX_LABEL_LEN) {
             throw new IllegalArgumentException("label length exceeds maximum: " + label.length() + " > " + MAX_LABEL_LEN);
         }
-        return new Address(validateAndDecodeAddress(checksumAddress), label);
+        return fromBytes(validateAndDecodeAddress(checksumAddress), 0, label);
     }
 
-    private static BigInteger validateAndDecodeAddress(final String checksumAddress) {
+    private static byte[] validateAndDecodeAddress(final String checksumAddress) {
         validateChecksumAddress(checksumAddress);
-        return new BigInteger(1, FastHex.decode(checksumAddress, PREFIX_LEN, ADDRESS_HEX_CHARS));
+        return FastHex.decode(checksumAddress, PREFIX_LEN, ADDRESS_HEX_CHARS);
     }
 
     public Address withLabel(final String label) {
         if (this.label != null) {
             throw new IllegalArgumentException("label already set");
         }
-        return new Address(this.value, label);
+        return new Address(hi, mid, lo, label);
     }
 
     public static void validateChecksumAddress(final String checksumAddress) {
@@ -120,7 +233,7 @@ public final class Address {
         Arrays.fill(addressBytes, (byte)'0');
         addressBytes[1] = 'x';
         minimalHex.getBytes(0, len, addressBytes, start);
-        return doChecksum(addressBytes);
+        return doChecksum(addressBytes, new byte[HASH_LEN]);
     }
 
     private static final byte[] LOWERCASE = new byte[1 << Byte.SIZE];
@@ -160,7 +273,7 @@ public final class Address {
                 if (val == 0) throw new IllegalArgumentException("illegal hex val @ " + i);
                 addressBytes[i] = val;
             }
-            return doChecksum(addressBytes);
+            return doChecksum(addressBytes, new byte[HASH_LEN]);
         }
         if (address.length() >= PREFIX_LEN) {
             checkPrefix(address);
@@ -175,10 +288,9 @@ public final class Address {
     }
 
     @SuppressWarnings("deprecation")
-    private static String doChecksum(final byte[] addressBytes) {
-        final Keccak keccak256 = new Keccak(256);
-        keccak256.update(addressBytes, PREFIX_LEN, ADDRESS_HEX_CHARS);
-        final byte[] hash = keccak256.digest();
+    /* checksums addressBytes in place, using hash as scratch space */
+    private static String doChecksum(final byte[] addressBytes, final byte[] hash) {
+        Keccak.keccak256(addressBytes, PREFIX_LEN, ADDRESS_HEX_CHARS, hash, 0, ADDRESS_DATA_BYTES);
         for (int b = 0, c = PREFIX_LEN; b < ADDRESS_DATA_BYTES; b++) {
             final byte hashByte = hash[b];
             if ((hashByte >>> 4) >= 8) {
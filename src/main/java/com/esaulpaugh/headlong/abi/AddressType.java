@@ -24,7 +24,7 @@ public final class AddressType extends UnitType<Address> {
 
     static final AddressType INSTANCE = new AddressType();
 
-    private static final BigIntegerType ADDRESS_INNER = new BigIntegerType("ADDRESS_INNER", ADDRESS_BIT_LEN, true);
+    static final BigIntegerType ADDRESS_INNER = new BigIntegerType("ADDRESS_INNER", ADDRESS_BIT_LEN, true);
 
     static {
         UnitType.initInstances();
@@ -46,21 +46,26 @@ public final class AddressType extends UnitType<Address> {
 
     @Override
     int validateInternal(Address value) {
-        return ADDRESS_INNER.validateInternal(value.value());
+        return UNIT_LENGTH_BYTES; // an Address is always in range
     }
 
     @Override
     void encodeTail(Address value, ByteBuffer dest) {
-        ADDRESS_INNER.encodeTail(value.value(), dest);
+        dest.putInt(0).putLong(0L);
+        value.put(dest);
     }
 
     @Override
     Address decode(ByteBuffer bb, byte[] unitBuffer) {
-        return new Address(ADDRESS_INNER.decode(bb, unitBuffer));
+        final long a = bb.getLong(), b = bb.getLong(), c = bb.getLong(), d = bb.getLong();
+        if ((a | (b >>> Integer.SIZE)) == 0L) {
+            return new Address((int) b, c, d, null);
+        }
+        throw err(bb);
     }
 
     @Override
     void encodePackedUnchecked(Address value, ByteBuffer dest) {
-        ADDRESS_INNER.encodePackedUnchecked(value.value(), dest);
+        value.put(dest);
     }
 }
@@ -19,11 +19,17 @@ import com.esaulpaugh.headlong.util.Integers;
 import com.esaulpaugh.headlong.util.Strings;
 
 import java.lang.reflect.Array;
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.IntUnaryOperator;
 
 import static com.esaulpaugh.headlong.abi.TupleType.countBytes;
 import static com.esaulpaugh.headlong.abi.TupleType.totalLen;
+import static com.esaulpaugh.headlong.abi.UnitType.UNIT_LENGTH_BITS;
 import static com.esaulpaugh.headlong.abi.UnitType.UNIT_LENGTH_BYTES;
 
 /**
@@ -43,6 +49,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     public static final int DYNAMIC_LENGTH = -1;
 
     private final ET elementType;
+    private final int elementTypeCode;
     private final Class<?> arrayClass;
     private final int length;
     private final int headLength;
@@ -51,6 +58,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     ArrayType(String canonicalType, Class<A> clazz, ET elementType, int length, Class<?> arrayClass, int flags) {
         super(canonicalType, clazz, DYNAMIC_LENGTH == length || elementType.dynamic);
         this.elementType = elementType;
+        this.elementTypeCode = elementType.typeCode();
         this.length = length;
         this.arrayClass = arrayClass;
         this.headLength = dynamic ? OFFSET_LENGTH_BYTES : staticArrayHeadLength();
@@ -58,7 +66,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     }
 
     private int staticArrayHeadLength() {
-        switch (elementType.typeCode()) {
+        switch (elementTypeCode) {
         case TYPE_CODE_BYTE: return UNIT_LENGTH_BYTES; // all static byte arrays round up to exactly 32 bytes and not more
         case TYPE_CODE_ARRAY: return length * elementType.asArrayType().staticArrayHeadLength();
         case TYPE_CODE_TUPLE: return length * elementType.asTupleType().headLengthSum;
@@ -83,6 +91,10 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         return STRING_CLASS == clazz;
     }
 
+    boolean isView() {
+        return BytesView.class == clazz;
+    }
+
     @Override
     Class<?> arrayClass() {
         if (arrayClass != null) {
@@ -115,14 +127,16 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
 
     @SuppressWarnings("unchecked")
     private int calcElementsLen(A value) {
-        switch (elementType.typeCode()) {
+        switch (elementTypeCode) {
         case TYPE_CODE_BOOLEAN: return ((boolean[]) value).length * UNIT_LENGTH_BYTES;
         case TYPE_CODE_BYTE: return Integers.roundLengthUp(byteCount(value), UNIT_LENGTH_BYTES);
         case TYPE_CODE_INT: return ((int[]) value).length * UNIT_LENGTH_BYTES;
         case TYPE_CODE_LONG: return ((long[]) value).length * UNIT_LENGTH_BYTES;
         case TYPE_CODE_BIG_INTEGER:
         case TYPE_CODE_BIG_DECIMAL:
-        case TYPE_CODE_ADDRESS: return ((Object[]) value).length * UNIT_LENGTH_BYTES;
+        case TYPE_CODE_ADDRESS:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256: return ((Object[]) value).length * UNIT_LENGTH_BYTES;
         case TYPE_CODE_ARRAY:
         case TYPE_CODE_TUPLE: return measureByteLength((E[]) value);
         default: throw new AssertionError();
@@ -142,14 +156,16 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         if (value == null) {
             return staticByteLengthPacked();
         }
-        switch (elementType.typeCode()) {
+        switch (elementTypeCode) {
         case TYPE_CODE_BOOLEAN: return ((boolean[]) value).length * UNIT_LENGTH_BYTES;
         case TYPE_CODE_BYTE: return byteCount(value); // * 1
         case TYPE_CODE_INT: return ((int[]) value).length * UNIT_LENGTH_BYTES;
         case TYPE_CODE_LONG: return ((long[]) value).length * UNIT_LENGTH_BYTES;
         case TYPE_CODE_BIG_INTEGER:
         case TYPE_CODE_BIG_DECIMAL:
-        case TYPE_CODE_ADDRESS: return ((Object[]) value).length * UNIT_LENGTH_BYTES;
+        case TYPE_CODE_ADDRESS:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256: return ((Object[]) value).length * UNIT_LENGTH_BYTES;
         case TYPE_CODE_ARRAY:
         case TYPE_CODE_TUPLE: return measureByteLengthPacked((E[]) value);
         default: throw new AssertionError();
@@ -157,7 +173,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     }
 
     private int byteCount(Object value) {
-        return decodeIfString(value).length;
+        return value instanceof BytesView ? ((BytesView) value).length() : decodeIfString(value).length;
     }
 
     private byte[] decodeIfString(Object value) {
@@ -165,7 +181,13 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     }
 
     Object encodeIfString(byte[] bytes) {
-        return !isString() ? bytes : Strings.encode(bytes, Strings.UTF_8);
+        return isView()
+                ? newView(bytes, 0, bytes.length)
+                : !isString() ? bytes : Strings.encode(bytes, Strings.UTF_8);
+    }
+
+    private BytesView newView(byte[] array, int offset, int len) {
+        return new BytesView(array, offset, len, "string".equals(canonicalType));
     }
 
     @Override
@@ -176,16 +198,18 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
 
     @SuppressWarnings("unchecked")
     private int validateElements(A value) {
-        switch (elementType.typeCode()) {
+        switch (elementTypeCode) {
         case TYPE_CODE_BOOLEAN: return validateBooleans((boolean[]) value);
         case TYPE_CODE_BYTE: return validateBytes(value);
         case TYPE_CODE_INT: return validateInts((int[]) value, (IntType) elementType);
         case TYPE_CODE_LONG: return validateLongs((long[]) value, (LongType) elementType);
-        case TYPE_CODE_BIG_INTEGER:
+        case TYPE_CODE_BIG_INTEGER: return validateBigIntegers((BigInteger[]) value, (BigIntegerType) elementType);
         case TYPE_CODE_BIG_DECIMAL:
         case TYPE_CODE_ARRAY:
         case TYPE_CODE_TUPLE:
-        case TYPE_CODE_ADDRESS: return validateObjects((E[]) value);
+        case TYPE_CODE_ADDRESS:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256: return validateObjects((E[]) value);
         default: throw new AssertionError();
         }
     }
@@ -213,6 +237,10 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         return measureArrayElements(checkLength(arr.length, arr), i -> type.validatePrimitive(arr[i]));
     }
 
+    private int validateBigIntegers(BigInteger[] arr, BigIntegerType type) {
+        return measureArrayElements(checkLength(arr.length, arr), i -> type.validate(arr[i]));
+    }
+
     private int validateObjects(E[] arr) {
         return measureArrayElements(checkLength(arr.length, arr), i -> elementType.validate(arr[i]));
     }
@@ -245,16 +273,21 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     @SuppressWarnings("unchecked")
     @Override
     void encodeTail(A value, ByteBuffer dest) {
-        switch (elementType.typeCode()) {
+        switch (elementTypeCode) {
         case TYPE_CODE_BOOLEAN: encodeBooleans((boolean[]) value, dest); return;
-        case TYPE_CODE_BYTE: encodeBytes(decodeIfString(value), dest); return;
+        case TYPE_CODE_BYTE:
+            if (value instanceof BytesView) encodeBytes((BytesView) value, dest);
+            else encodeBytes(decodeIfString(value), dest);
+            return;
         case TYPE_CODE_INT: encodeInts((int[]) value, dest); return;
         case TYPE_CODE_LONG: encodeLongs((long[]) value, dest); return;
-        case TYPE_CODE_BIG_INTEGER:
+        case TYPE_CODE_BIG_INTEGER: encodeBigIntegers((BigInteger[]) value, dest); return;
+        case TYPE_CODE_ADDRESS: encodeAddresses((Address[]) value, dest); return;
         case TYPE_CODE_BIG_DECIMAL:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256:
         case TYPE_CODE_ARRAY:
-        case TYPE_CODE_TUPLE:
-        case TYPE_CODE_ADDRESS: encodeObjects((E[]) value, dest); return;
+        case TYPE_CODE_TUPLE: encodeObjects((E[]) value, dest); return;
         default: throw new AssertionError();
         }
     }
@@ -262,7 +295,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     private void encodeObjects(E[] arr, ByteBuffer dest) {
         encodeArrayLen(arr.length, dest);
         if (elementType.dynamic) {
-            encodeDynamic(arr, dest, OFFSET_LENGTH_BYTES * arr.length);
+            encodeDynamic(arr, dest);
         } else {
             encodeStatic(arr, dest);
         }
@@ -274,20 +307,14 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         }
     }
 
-    private void encodeDynamic(E[] values, ByteBuffer dest, int offset) {
-        if (values.length == 0) {
-            return;
+    private void encodeDynamic(E[] values, ByteBuffer dest) {
+        final int start = dest.position();
+        for (int i = 0; i < values.length; i++) {
+            insert00Padding(OFFSET_LENGTH_BYTES, dest); // reserve offset; filled in once the tail's position is known
         }
-        final int last = values.length - 1;
-        for (int i = 0; true; i++) {
-            insertIntUnsigned(offset, dest); // insert offset
-            if (i == last) {
-                for (E value : values) {
-                    elementType.encodeTail(value, dest);
-                }
-                return;
-            }
-            offset += elementType.dynamicByteLength(values[i]); // calculate next offset
+        for (int i = 0; i < values.length; i++) {
+            insertOffset(start, start + i * OFFSET_LENGTH_BYTES, dest);
+            elementType.encodeTail(values[i], dest);
         }
     }
 
@@ -310,6 +337,12 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         insert00Padding(Integers.mod(-arr.length, UNIT_LENGTH_BYTES), dest);
     }
 
+    private void encodeBytes(BytesView view, ByteBuffer dest) {
+        encodeArrayLen(view.length(), dest);
+        view.put(dest);
+        insert00Padding(Integers.mod(-view.length(), UNIT_LENGTH_BYTES), dest);
+    }
+
     private void encodeInts(int[] arr, ByteBuffer dest) {
         encodeArrayLen(arr.length, dest);
         for (int e : arr) {
@@ -324,17 +357,36 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         }
     }
 
+    private void encodeBigIntegers(BigInteger[] arr, ByteBuffer dest) {
+        encodeArrayLen(arr.length, dest);
+        for (BigInteger e : arr) {
+            insertInt(e, UNIT_LENGTH_BYTES, dest);
+        }
+    }
+
+    private void encodeAddresses(Address[] arr, ByteBuffer dest) {
+        encodeArrayLen(arr.length, dest);
+        for (Address e : arr) {
+            AddressType.INSTANCE.encodeTail(e, dest);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     void encodePackedUnchecked(A value, ByteBuffer dest) {
-        switch (elementType.typeCode()) {
+        switch (elementTypeCode) {
         case TYPE_CODE_BOOLEAN: encodeBooleansPacked((boolean[]) value, dest); return;
-        case TYPE_CODE_BYTE: dest.put(decodeIfString(value)); return;
+        case TYPE_CODE_BYTE:
+            if (value instanceof BytesView) ((BytesView) value).put(dest);
+            else dest.put(decodeIfString(value));
+            return;
         case TYPE_CODE_INT: encodeIntsPacked((int[]) value, (IntType) elementType, dest); return;
         case TYPE_CODE_LONG: encodeLongsPacked((long[]) value, (LongType) elementType, dest); return;
         case TYPE_CODE_BIG_INTEGER:
         case TYPE_CODE_BIG_DECIMAL:
-        case TYPE_CODE_ADDRESS: encodeElementsPacked((E[]) value, dest); return;
+        case TYPE_CODE_ADDRESS:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256: encodeElementsPacked((E[]) value, dest); return;
         case TYPE_CODE_ARRAY:
         case TYPE_CODE_TUPLE:
             for (E e : (E[]) value) {
@@ -372,22 +424,280 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     @Override
     @SuppressWarnings("unchecked")
     A decode(ByteBuffer bb, byte[] unitBuffer) {
-        final int arrayLen = length == DYNAMIC_LENGTH ? IntType.UINT21.decode(bb, unitBuffer) : length;
+        final int arrayLen = length == DYNAMIC_LENGTH ? IntType.UINT21.decodeUnsignedInt(bb) : length;
         checkNoDecodePossible(bb.remaining(), arrayLen);
-        switch (elementType.typeCode()) {
+        switch (elementTypeCode) {
         case TYPE_CODE_BOOLEAN: return (A) decodeBooleans(arrayLen, bb, unitBuffer);
-        case TYPE_CODE_BYTE: return (A) encodeIfString(decodeBytes(arrayLen, bb, (flags & ABIType.FLAG_LEGACY_DECODE) != 0));
+        case TYPE_CODE_BYTE: return (A) (isView()
+                                            ? decodeView(arrayLen, bb, (flags & ABIType.FLAG_LEGACY_DECODE) != 0)
+                                            : encodeIfString(decodeBytes(arrayLen, bb, (flags & ABIType.FLAG_LEGACY_DECODE) != 0)));
         case TYPE_CODE_INT: return (A) decodeInts(arrayLen, bb, (IntType) elementType, unitBuffer);
         case TYPE_CODE_LONG: return (A) decodeLongs(arrayLen, bb, (LongType) elementType, unitBuffer);
-        case TYPE_CODE_BIG_INTEGER:
+        case TYPE_CODE_BIG_INTEGER: return (A) decodeBigIntegers(arrayLen, bb, (BigIntegerType) elementType, unitBuffer);
+        case TYPE_CODE_ADDRESS: return (A) decodeAddresses(arrayLen, bb, unitBuffer);
         case TYPE_CODE_BIG_DECIMAL:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256:
         case TYPE_CODE_ARRAY:
-        case TYPE_CODE_TUPLE:
-        case TYPE_CODE_ADDRESS: return (A) decodeObjects(arrayLen, bb, unitBuffer);
+        case TYPE_CODE_TUPLE: return (A) decodeObjects(arrayLen, bb, unitBuffer);
         default: throw new AssertionError();
         }
     }
 
+    /**
+     * Decodes an array of {@code bool}, {@code address}, {@code bytesN}, or 256-bit integers into a single flat backing
+     * array instead of one object per element. {@code bool} yields {@link FlatArray.Bits}, {@code address} and
+     * {@code bytesN} yield {@link FlatArray.Bytes}, and {@code uint256} and {@code int256} yield {@link FlatArray.Words}.
+     *
+     * @param array the encoded array
+     * @return  the view
+     * @param <F>   the view's type
+     * @throws IllegalArgumentException if the element type is not supported, if the data is malformed, or if bytes remain
+     */
+    public <F extends FlatArray<?>> F decodeFlat(byte[] array) {
+        final ByteBuffer bb = ByteBuffer.wrap(array);
+        final F decoded = decodeFlat(bb);
+        final int remaining = bb.remaining();
+        if (remaining == 0) {
+            return decoded;
+        }
+        throw new IllegalArgumentException("unconsumed bytes: " + remaining + " remaining");
+    }
+
+    /**
+     * Decodes the array at the buffer's current position as in {@link #decodeFlat(byte[])}.
+     *
+     * @param bb    the buffer containing the encoded array
+     * @return  the view
+     * @param <F>   the view's type
+     * @throws IllegalArgumentException if the element type is not supported or if the data is malformed
+     */
+    @SuppressWarnings("unchecked")
+    public <F extends FlatArray<?>> F decodeFlat(ByteBuffer bb) {
+        final int stride = flatStride();
+        final int arrayLen = length == DYNAMIC_LENGTH ? IntType.UINT21.decodeUnsignedInt(bb) : length;
+        checkNoDecodePossible(bb.remaining(), arrayLen);
+        switch (elementTypeCode) {
+        case TYPE_CODE_BOOLEAN: return (F) decodeFlatBooleans(arrayLen, bb);
+        case TYPE_CODE_ADDRESS: return (F) decodeFlatAddresses(arrayLen, bb);
+        case TYPE_CODE_ARRAY: return (F) decodeFlatBytes(arrayLen, stride, (elementType.asArrayType().flags & ABIType.FLAG_LEGACY_DECODE) != 0, bb);
+        default: return (F) decodeFlatWords(arrayLen, elementType.asUnitType().unsigned, bb);
+        }
+    }
+
+    private int flatStride() {
+        switch (elementTypeCode) {
+        case TYPE_CODE_BOOLEAN: return UNIT_LENGTH_BYTES;
+        case TYPE_CODE_ADDRESS: return Address.ADDRESS_BIT_LEN / Byte.SIZE;
+        case TYPE_CODE_ARRAY:
+            final ArrayType<?, ?, ?> at = elementType.asArrayType();
+            if (at.elementType instanceof ByteType && !at.isString() && at.length != DYNAMIC_LENGTH && at.length <= UNIT_LENGTH_BYTES) {
+                return at.length;
+            }
+            break;
+        case TYPE_CODE_BIG_INTEGER:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256:
+            if (elementType.asUnitType().bitLength == UNIT_LENGTH_BITS) {
+                return UNIT_LENGTH_BYTES;
+            }
+        }
+        throw new IllegalArgumentException("flat decode not supported for element type " + elementType.canonicalType);
+    }
+
+    private static FlatArray.Bits decodeFlatBooleans(int len, ByteBuffer bb) {
+        final long[] bits = new long[(len + (Long.SIZE - 1)) / Long.SIZE];
+        int i = 0;
+        try {
+            for ( ; i < len; i++) {
+                if (BooleanType.INSTANCE.decode(bb, (byte[]) null)) {
+                    bits[i >>> 6] |= 1L << i;
+                }
+            }
+        } catch (IllegalArgumentException cause) {
+            throw TupleType.exceptionWithIndex(false, i, cause);
+        }
+        return new FlatArray.Bits(bits, len);
+    }
+
+    private static FlatArray.Bytes decodeFlatAddresses(int len, ByteBuffer bb) {
+        final int stride = Address.ADDRESS_BIT_LEN / Byte.SIZE;
+        final byte[] data = new byte[len * stride];
+        int i = 0;
+        try {
+            for ( ; i < len; i++) {
+                final long hi = bb.getLong() | bb.getInt();
+                bb.get(data, i * stride, stride);
+                if (hi != 0L) {
+                    throw AddressType.INSTANCE.err(bb);
+                }
+            }
+        } catch (IllegalArgumentException cause) {
+            throw TupleType.exceptionWithIndex(false, i, cause);
+        }
+        return new FlatArray.Bytes(data, stride);
+    }
+
+    private static FlatArray.Bytes decodeFlatBytes(int len, int stride, boolean legacyDecode, ByteBuffer bb) {
+        final byte[] data = new byte[len * stride];
+        int i = 0;
+        try {
+            for ( ; i < len; i++) {
+                bb.get(data, i * stride, stride);
+                if (!legacyDecode) {
+                    checkPadding(UNIT_LENGTH_BYTES - stride, bb);
+                }
+            }
+        } catch (IllegalArgumentException cause) {
+            throw TupleType.exceptionWithIndex(false, i, cause);
+        }
+        return new FlatArray.Bytes(data, stride);
+    }
+
+    private static FlatArray.Words decodeFlatWords(int len, boolean unsigned, ByteBuffer bb) {
+        final long[] words = new long[len * 4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = bb.getLong(); // every 256-bit pattern is valid
+        }
+        return new FlatArray.Words(words, unsigned);
+    }
+
+    @Override
+    void scan(ByteBuffer bb) {
+        final int arrayLen = length == DYNAMIC_LENGTH ? IntType.UINT21.decodeUnsignedInt(bb) : length;
+        checkNoDecodePossible(bb.remaining(), arrayLen);
+        if (elementTypeCode == TYPE_CODE_BYTE) {
+            bb.position(bb.position() + arrayLen);
+            if ((flags & ABIType.FLAG_LEGACY_DECODE) == 0) {
+                checkPadding(-arrayLen & 31, bb);
+            }
+            return;
+        }
+        if (arrayLen > 0) {
+            int i = 0;
+            try {
+                if (!elementType.dynamic) {
+                    do {
+                        elementType.scan(bb);
+                    } while (++i < arrayLen);
+                } else {
+                    final int start = bb.position();
+                    for (;;) {
+                        final int jump = start + IntType.UINT30.decodeUnsignedInt(bb);
+                        final int pos = bb.position();
+                        bb.position(jump);
+                        elementType.scan(bb);
+                        if (++i >= arrayLen) break;
+                        bb.position(pos);
+                    }
+                }
+            } catch (IllegalArgumentException cause) {
+                throw TupleType.exceptionWithIndex(false, i, cause);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator which decodes the elements of the array at the buffer's current position one at a time, so
+     * that the array as a whole is never materialized. NOTE: This method does not advance the {@link ByteBuffer}'s
+     * {@code position}.
+     *
+     * @param bb    the buffer containing the encoded array
+     * @return  the iterator
+     * @see #spliterator(ByteBuffer)
+     */
+    public Iterator<E> iterate(ByteBuffer bb) {
+        return Spliterators.iterator(spliterator(bb));
+    }
+
+    /**
+     * Returns a {@link Spliterator} which decodes the elements of the array at the buffer's current position one at a
+     * time. Elements are located via their head offsets, so the spliterator is {@link Spliterator#SIZED} and supports
+     * {@link Spliterator#trySplit()} for use with parallel streams, except under {@link ABIType#FLAG_LEGACY_DECODE}
+     * where static elements must be read in sequence. Malformed elements are reported when reached. NOTE: This method
+     * does not advance the {@link ByteBuffer}'s {@code position}.
+     *
+     * @param bb    the buffer containing the encoded array
+     * @return  the spliterator
+     * @throws IllegalArgumentException if this is a byte array type or if the buffer is obviously too short
+     */
+    public Spliterator<E> spliterator(ByteBuffer bb) {
+        if (elementTypeCode == TYPE_CODE_BYTE) {
+            throw new IllegalArgumentException("can't iterate over " + canonicalType);
+        }
+        final ByteBuffer dup = bb.duplicate();
+        final int arrayLen = length == DYNAMIC_LENGTH ? IntType.UINT21.decodeUnsignedInt(dup) : length;
+        checkNoDecodePossible(dup.remaining(), arrayLen);
+        return new ElementSpliterator<>(elementType, dup, dup.position(), 0, arrayLen, (flags & ABIType.FLAG_LEGACY_DECODE) != 0);
+    }
+
+    private static final class ElementSpliterator<E> implements Spliterator<E> {
+
+        private final ABIType<E> elementType;
+        private final ByteBuffer bb;
+        private final int start;
+        private final int stride;
+        private final boolean sequential;
+        private final byte[] unitBuffer = newUnitBuffer();
+        private int index;
+        private final int end;
+
+        ElementSpliterator(ABIType<E> elementType, ByteBuffer bb, int start, int index, int end, boolean sequential) {
+            this.elementType = elementType;
+            this.bb = bb;
+            this.start = start;
+            this.stride = elementType.dynamic ? OFFSET_LENGTH_BYTES : elementType.headLength();
+            this.sequential = sequential && !elementType.dynamic;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (index >= end) {
+                return false;
+            }
+            final E e;
+            try {
+                if (sequential) {
+                    e = elementType.decode(bb, unitBuffer); // legacy static byte arrays may be shorter than their head
+                } else {
+                    bb.position(start + index * stride);
+                    if (elementType.dynamic) {
+                        bb.position(start + IntType.UINT30.decodeUnsignedInt(bb));
+                    }
+                    e = elementType.decode(bb, unitBuffer);
+                }
+            } catch (IllegalArgumentException cause) {
+                throw TupleType.exceptionWithIndex(false, index, cause);
+            }
+            index++;
+            action.accept(e);
+            return true;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            final int mid = (index + end) >>> 1;
+            if (sequential || mid <= index) {
+                return null;
+            }
+            final Spliterator<E> prefix = new ElementSpliterator<>(elementType, bb.duplicate(), start, index, mid, false);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
     /**
      * Abort early if the input is obviously too short. Best effort to fail fast before allocating memory for the array.
      */
@@ -423,19 +733,39 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         final byte[] data = new byte[len];
         bb.get(data);
         if (!legacyDecode) {
-            int bytes = -len & 31; // Integers.roundLengthUp(len, UNIT_LENGTH_BYTES) - len; // (32 - (len & 31)) & 31;
-            while (bytes >= Long.BYTES) {
-                if (bb.getLong() != 0L) throw new IllegalArgumentException("malformed array: non-zero padding byte");
-                bytes -= Long.BYTES;
-            }
-            while (bytes != 0) {
-               if (bb.get() != 0) throw new IllegalArgumentException("malformed array: non-zero padding byte");
-               bytes -= Byte.BYTES;
-            }
+            checkPadding(-len & 31, bb); // Integers.roundLengthUp(len, UNIT_LENGTH_BYTES) - len; // (32 - (len & 31)) & 31;
         }
         return data;
     }
 
+    private BytesView decodeView(int len, ByteBuffer bb, boolean legacyDecode) {
+        final BytesView view;
+        final int pos = bb.position();
+        if (bb.hasArray()) {
+            view = newView(bb.array(), bb.arrayOffset() + pos, len);
+            bb.position(pos + len);
+        } else {
+            final byte[] data = new byte[len];
+            bb.get(data);
+            view = newView(data, 0, len);
+        }
+        if (!legacyDecode) {
+            checkPadding(-len & 31, bb);
+        }
+        return view;
+    }
+
+    private static void checkPadding(int bytes, ByteBuffer bb) {
+        while (bytes >= Long.BYTES) {
+            if (bb.getLong() != 0L) throw new IllegalArgumentException("malformed array: non-zero padding byte");
+            bytes -= Long.BYTES;
+        }
+        while (bytes != 0) {
+           if (bb.get() != 0) throw new IllegalArgumentException("malformed array: non-zero padding byte");
+           bytes -= Byte.BYTES;
+        }
+    }
+
     private static int[] decodeInts(int len, ByteBuffer bb, IntType intType, byte[] unitBuffer) {
         int[] ints = new int[len];
         int i = 0;
@@ -462,6 +792,32 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         return longs;
     }
 
+    private static BigInteger[] decodeBigIntegers(int len, ByteBuffer bb, BigIntegerType bigIntegerType, byte[] unitBuffer) {
+        final BigInteger[] bigInts = new BigInteger[len];
+        int i = 0;
+        try {
+            for ( ; i < len; i++) {
+                bigInts[i] = bigIntegerType.decode(bb, unitBuffer);
+            }
+        } catch (IllegalArgumentException cause) {
+            throw TupleType.exceptionWithIndex(false, i, cause);
+        }
+        return bigInts;
+    }
+
+    private static Address[] decodeAddresses(int len, ByteBuffer bb, byte[] unitBuffer) {
+        final Address[] addresses = new Address[len];
+        int i = 0;
+        try {
+            for ( ; i < len; i++) {
+                addresses[i] = AddressType.INSTANCE.decode(bb, unitBuffer);
+            }
+        } catch (IllegalArgumentException cause) {
+            throw TupleType.exceptionWithIndex(false, i, cause);
+        }
+        return addresses;
+    }
+
     @SuppressWarnings("unchecked")
     static <T> T[] createArray(Class<T> elementClass, int len) {
         return (T[]) Array.newInstance(elementClass, len); // reflection ftw
@@ -479,7 +835,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
                 } else {
                     final int start = bb.position();
                     for (;;) {
-                        int jump = start + IntType.UINT30.decode(bb, unitBuffer);
+                        int jump = start + IntType.UINT30.decodeUnsignedInt(bb);
                         /* LENIENT MODE; see https://github.com/ethereum/solidity/commit/3d1ca07e9b4b42355aa9be5db5c00048607986d1 */
                         final int pos = bb.position();
                         bb.position(jump);
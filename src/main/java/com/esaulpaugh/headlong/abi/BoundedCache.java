@@ -0,0 +1,118 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/** A bounded, thread-safe LRU cache, striped to reduce lock contention, which counts its hits and misses. */
+final class BoundedCache<K, V> {
+
+    private static final int STRIPES = 16; // power of two
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Stripe<K, V>[] stripes = new Stripe[STRIPES];
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    BoundedCache(int maxEntries) {
+        final int perStripe = Math.max(1, (maxEntries + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>(perStripe);
+        }
+        this.capacity = perStripe * STRIPES;
+    }
+
+    V get(K key) {
+        final Stripe<K, V> stripe = stripeFor(key);
+        final V value;
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    void put(K key, V value) {
+        final Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    CacheStats stats() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), size, capacity);
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        final int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        Stripe(int maxEntries) {
+            super(16, 0.75f, true); // access order
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    /** A composite key of parse flags and one or two strings. */
+    static final class Key {
+
+        private final int flags;
+        private final String a;
+        private final String b;
+
+        Key(int flags, String a, String b) {
+            this.flags = flags;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * flags + a.hashCode()) + Objects.hashCode(b);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Key) {
+                final Key other = (Key) o;
+                return other.flags == this.flags && other.a.equals(this.a) && Objects.equals(other.b, this.b);
+            }
+            return false;
+        }
+    }
+}
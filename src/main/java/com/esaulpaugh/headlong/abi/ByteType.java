@@ -70,4 +70,9 @@ public final class ByteType extends ABIType<Byte> {
     Byte decode(ByteBuffer bb, byte[] unitBuffer) {
         return bb.get();
     }
+
+    @Override
+    void scan(ByteBuffer bb) {
+        bb.get();
+    }
 }
@@ -0,0 +1,123 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.FastHex;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A read-only window onto a range of bytes, returned in place of {@code byte[]} or {@link String} for {@code bytes},
+ * {@code bytesN}, and {@code string} values by types created with {@link ABIType#FLAG_BYTES_VIEW}. When the input was
+ * array-backed, decoding copies nothing and the view shares the input array, so the input must not be modified while
+ * the view is in use. For {@code string} values, UTF-8 decoding is deferred until {@link #toString()}.
+ */
+public final class BytesView {
+
+    private final byte[] array;
+    private final int offset;
+    private final int length;
+    private final boolean utf8;
+    private String str;
+
+    BytesView(byte[] array, int offset, int length, boolean utf8) {
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+        this.utf8 = utf8;
+    }
+
+    public static BytesView wrap(byte[] bytes) {
+        return new BytesView(bytes, 0, bytes.length, false);
+    }
+
+    public static BytesView of(String str) {
+        final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        final BytesView view = new BytesView(bytes, 0, bytes.length, true);
+        view.str = str;
+        return view;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public byte byteAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return array[offset + index];
+    }
+
+    public byte[] toByteArray() {
+        final byte[] copy = new byte[length];
+        System.arraycopy(array, offset, copy, 0, length);
+        return copy;
+    }
+
+    public void copyTo(byte[] dest, int destPos) {
+        System.arraycopy(array, offset, dest, destPos, length);
+    }
+
+    /**
+     * @return  a read-only {@link ByteBuffer} over this view's bytes with position zero
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(array, offset, length).slice().asReadOnlyBuffer();
+    }
+
+    void put(ByteBuffer dest) {
+        dest.put(array, offset, length);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            result = 31 * result + array[i];
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof BytesView)) return false;
+        final BytesView other = (BytesView) o;
+        if (other.length != this.length) return false;
+        for (int i = 0; i < length; i++) {
+            if (other.array[other.offset + i] != this.array[this.offset + i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return  the UTF-8 decoding of a {@code string} value, cached after the first call, or the hex encoding of a
+     *          {@code bytes} or {@code bytesN} value
+     */
+    @Override
+    public String toString() {
+        if (!utf8) {
+            return FastHex.encodeToString(array, offset, length);
+        }
+        String s = str;
+        if (s == null) {
+            str = s = new String(array, offset, length, StandardCharsets.UTF_8);
+        }
+        return s;
+    }
+}
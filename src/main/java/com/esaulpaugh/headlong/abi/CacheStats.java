@@ -0,0 +1,63 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+/** A point-in-time snapshot of a cache's counters, for sizing it. */
+public final class CacheStats {
+
+    static final CacheStats DISABLED = new CacheStats(0L, 0L, 0, 0);
+
+    private final long hits;
+    private final long misses;
+    private final int size;
+    private final int capacity;
+
+    CacheStats(long hits, long misses, int size, int capacity) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    /** @return the fraction of lookups which were hits, or 0.0 if there have been none */
+    public double hitRate() {
+        final long total = hits + misses;
+        return total == 0L ? 0.0 : hits / (double) total;
+    }
+
+    /** @return the number of entries currently cached */
+    public int size() {
+        return size;
+    }
+
+    /** @return the maximum number of entries, or 0 if caching is disabled */
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + hits + ", misses=" + misses + ", size=" + size + ", capacity=" + capacity;
+    }
+}
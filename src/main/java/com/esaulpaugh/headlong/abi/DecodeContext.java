@@ -0,0 +1,40 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable scratch state for decoding. Passing the same context to successive calls such as
+ * {@link ABIType#decode(byte[], DecodeContext)}, {@link Function#decodeCall(byte[], DecodeContext)},
+ * {@link Function#decodeReturn(byte[], DecodeContext)} or {@link Event#decodeArgs(byte[][], byte[], DecodeContext)}
+ * avoids allocating scratch buffers per call. Array inputs are wrapped in place, neither copied nor retained, so apart
+ * from the decoded values the only allocation per call is that small {@link ByteBuffer} wrapper.
+ * <p>
+ * Instances are NOT thread-safe. Confine each to a single thread at a time, e.g. via a {@link ThreadLocal} or one per
+ * task.
+ */
+public final class DecodeContext {
+
+    final byte[] unitBuffer = ABIType.newUnitBuffer();
+
+    public DecodeContext() {}
+
+    /** Returns a big-endian {@link ByteBuffer} over the given range of {@code array}, sharing it. */
+    ByteBuffer wrap(byte[] array, int offset, int len) {
+        return ByteBuffer.wrap(array, offset, len);
+    }
+}
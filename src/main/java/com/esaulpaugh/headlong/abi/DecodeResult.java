@@ -0,0 +1,115 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The outcome of decoding one payload of a batch: either a value or the exception which decoding it threw.
+ *
+ * @param <T>   the type of the decoded value
+ * @see Function#decodeCallBatch(List, Executor)
+ * @see Function#decodeReturnBatch(List, Executor)
+ */
+public final class DecodeResult<T> {
+
+    private final T value;
+    private final RuntimeException error;
+
+    private DecodeResult(T value, RuntimeException error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /** @return the decoded value, or null if decoding failed */
+    public T value() {
+        return value;
+    }
+
+    /** @return the exception thrown while decoding, or null if decoding succeeded */
+    public RuntimeException error() {
+        return error;
+    }
+
+    /**
+     * @return the decoded value
+     * @throws IllegalStateException    if decoding failed, with the original exception as its cause
+     */
+    public T get() {
+        if (error == null) {
+            return value;
+        }
+        throw new IllegalStateException(error.getMessage(), error);
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "success: " + value : "error: " + error;
+    }
+
+    @FunctionalInterface
+    interface Decoder<T> {
+        T decode(byte[] payload, DecodeContext ctx);
+    }
+
+    /**
+     * Splits {@code payloads} into contiguous chunks, decodes each chunk on {@code executor} with its own
+     * {@link DecodeContext}, and waits for all chunks to finish. Results are in input order.
+     */
+    static <T> List<DecodeResult<T>> decodeAll(List<byte[]> payloads, Executor executor, Decoder<T> decoder) {
+        final int n = payloads.size();
+        if (n == 0) {
+            return Collections.emptyList();
+        }
+        final byte[][] inputs = payloads.toArray(new byte[0][]); // snapshot, and random access for any List
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final DecodeResult<T>[] results = new DecodeResult[n];
+        final int parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        final int chunks = Math.min(n, parallelism * 4); // over-partition a little so that uneven payloads balance out
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        for (int c = 0; c < chunks; c++) {
+            final int from = (int) ((long) n * c / chunks);
+            final int to = (int) ((long) n * (c + 1) / chunks);
+            futures[c] = CompletableFuture.runAsync(() -> decodeRange(inputs, from, to, decoder, results), executor);
+        }
+        CompletableFuture.allOf(futures).join();
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private static <T> void decodeRange(byte[][] inputs, int from, int to, Decoder<T> decoder, DecodeResult<T>[] results) {
+        final DecodeContext ctx = new DecodeContext();
+        for (int i = from; i < to; i++) {
+            DecodeResult<T> result;
+            try {
+                result = new DecodeResult<>(decoder.decode(inputs[i], ctx), null);
+            } catch (RuntimeException re) {
+                result = new DecodeResult<>(null, re);
+            }
+            results[i] = result;
+        }
+    }
+}
@@ -47,6 +47,11 @@ public final class Event<J extends Tuple> implements ABIObject {
     }
 
     public Event(String name, boolean anonymous, TupleType<J> inputs, boolean... indexed) {
+        this(name, anonymous, inputs, indexed, null);
+    }
+
+    /* signatureHash, if non-null, is trusted to be the hash of the canonical signature */
+    Event(String name, boolean anonymous, TupleType<J> inputs, boolean[] indexed, byte[] signatureHash) {
         this.name = Objects.requireNonNull(name);
         this.anonymous = anonymous;
         this.inputs = Objects.requireNonNull(inputs);
@@ -56,7 +61,13 @@ public final class Event<J extends Tuple> implements ABIObject {
         this.indexManifest = Arrays.copyOf(indexed, indexed.length);
         this.indexedParams = inputs.select(indexManifest);
         this.nonIndexedParams = inputs.exclude(indexManifest);
-        this.signatureHash = new Keccak(256).digest(Strings.decode(getCanonicalSignature(), Strings.ASCII));
+        if (signatureHash != null) {
+            this.signatureHash = signatureHash;
+            return;
+        }
+        final byte[] signature = Strings.decode(getCanonicalSignature(), Strings.ASCII);
+        this.signatureHash = new byte[32];
+        Keccak.keccak256(signature, 0, signature.length, this.signatureHash, 0);
     }
 
     @Override
@@ -92,6 +103,15 @@ public final class Event<J extends Tuple> implements ABIObject {
         return name + inputs.canonicalType;
     }
 
+    byte[] signatureHash() {
+        return signatureHash;
+    }
+
+    /** @return the number of topics in a log of this event */
+    int topicCount() {
+        return indexedParams.size() + (anonymous ? 0 : 1);
+    }
+
     @SuppressWarnings("unchecked")
     public <X extends Tuple> TupleType<X> getIndexedParams() {
         return (TupleType<X>) indexedParams;
@@ -129,7 +149,7 @@ public final class Event<J extends Tuple> implements ABIObject {
     }
 
     public <T extends Tuple> T decodeTopics(byte[][] topics) {
-        return Tuple.create(decodeTopicsArray(topics));
+        return Tuple.create(decodeTopicsArray(topics, null));
     }
 
     @SuppressWarnings("unchecked")
@@ -149,7 +169,16 @@ public final class Event<J extends Tuple> implements ABIObject {
      */
     @SuppressWarnings("unchecked")
     public <T extends Tuple> T decodeArgs(byte[][] topics, byte[] data) {
-        return (T) mergeDecodedArgs(decodeTopicsArray(topics), decodeData(data));
+        return (T) mergeDecodedArgs(decodeTopicsArray(topics, null), decodeData(data));
+    }
+
+    /** Equivalent to {@link #decodeArgs(byte[][], byte[])} but draws scratch space from the given context. */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeArgs(byte[][] topics, byte[] data, DecodeContext ctx) {
+        return (T) mergeDecodedArgs(
+                decodeTopicsArray(topics, ctx),
+                data == null && nonIndexedParams.isEmpty() ? Tuple.EMPTY : nonIndexedParams.decode(data, ctx)
+        );
     }
 
     private Tuple mergeDecodedArgs(Object[] decodedTopics, Tuple decodedData) {
@@ -164,7 +193,7 @@ public final class Event<J extends Tuple> implements ABIObject {
         return Tuple.create(result);
     }
 
-    private Object[] decodeTopicsArray(byte[][] topics) {
+    private Object[] decodeTopicsArray(byte[][] topics, DecodeContext ctx) {
         checkTopics(topics);
         final int offset = anonymous ? 0 : 1;
         final Object[] decodedTopics = new Object[indexedParams.size()];
@@ -174,9 +203,9 @@ public final class Event<J extends Tuple> implements ABIObject {
             if (abiType.isDynamic()) {
                 // Dynamic indexed types are not decodable in Events. Only a special hash is stored for fast querying of records
                 // See https://docs.soliditylang.org/en/v0.8.11/abi-spec.html#indexed-event-encoding
-                decodedTopics[i] = BYTES_32.decode(topic);
+                decodedTopics[i] = ctx == null ? BYTES_32.decode(topic) : BYTES_32.decode(topic, ctx);
             } else {
-                decodedTopics[i] = abiType.decode(topic);
+                decodedTopics[i] = ctx == null ? abiType.decode(topic) : abiType.decode(topic, ctx);
             }
         }
         return decodedTopics;
@@ -191,8 +220,8 @@ public final class Event<J extends Tuple> implements ABIObject {
             }
             expectedTopics = size;
         } else {
-            final byte[] decodedSignatureHash = BYTES_32.decode(topics[0]);
-            if (!MessageDigest.isEqual(signatureHash, decodedSignatureHash)) {
+            if (!MessageDigest.isEqual(signatureHash, topics[0])) { // equal arrays are necessarily 32 bytes long
+                final byte[] decodedSignatureHash = BYTES_32.decode(topics[0]);
                 throw new IllegalArgumentException("unexpected topics[0]: event " + getCanonicalSignature()
                         + " expects " + FastHex.encodeToString(signatureHash)
                         + " but found " + FastHex.encodeToString(decodedSignatureHash));
@@ -0,0 +1,235 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.FastHex;
+
+import java.nio.BufferUnderflowException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable index of {@link Event}s for decoding raw logs from many contracts. Non-anonymous events are keyed by
+ * signature hash, i.e. {@code topics[0]}, held as four {@code long}s per slot of an open-addressing table. Anonymous
+ * events, which have no such key, are grouped by topic count and tried in registration order. Instances are
+ * thread-safe.
+ */
+public final class EventRegistry {
+
+    /** A decoded log and the {@link Event} which decoded it, or {@link #NOT_FOUND}. */
+    public static final class DecodedLog {
+
+        private final Event<?> event;
+        private final Tuple args;
+
+        DecodedLog(Event<?> event, Tuple args) {
+            this.event = event;
+            this.args = args;
+        }
+
+        public boolean isFound() {
+            return event != null;
+        }
+
+        /** @return the matching event, or null if not found */
+        @SuppressWarnings("unchecked")
+        public <X extends Tuple> Event<X> event() {
+            return (Event<X>) event;
+        }
+
+        /** @return the decoded arguments, or null if not found */
+        @SuppressWarnings("unchecked")
+        public <T extends Tuple> T args() {
+            return (T) args;
+        }
+
+        @Override
+        public String toString() {
+            return event == null ? "not found" : event.getCanonicalSignature() + " " + args;
+        }
+    }
+
+    /** Returned when no registered event matches a log. */
+    public static final DecodedLog NOT_FOUND = new DecodedLog(null, null);
+
+    private static final int HASH_LONGS = 4;
+    private static final Event<?>[] NONE = new Event<?>[0];
+
+    private final int mask;
+    private final long[] keys; // HASH_LONGS per slot
+    private final Event<?>[][] values; // null marks an empty slot
+    private final Event<?>[][] anonymousByTopicCount;
+    private final int size;
+
+    private EventRegistry(List<Event<?>> events) {
+        int capacity = Integer.highestOneBit(Math.max(2, events.size()) * 2 - 1) << 1; // load factor <= 0.5
+        this.mask = capacity - 1;
+        this.keys = new long[capacity * HASH_LONGS];
+        this.values = new Event<?>[capacity][];
+        final List<List<Event<?>>> anonymous = new ArrayList<>();
+        int count = 0;
+        for (Event<?> e : events) {
+            if (e.isAnonymous()) {
+                final int topicCount = e.topicCount();
+                while (anonymous.size() <= topicCount) {
+                    anonymous.add(new ArrayList<>());
+                }
+                final List<Event<?>> group = anonymous.get(topicCount);
+                if (group.contains(e)) {
+                    continue;
+                }
+                group.add(e);
+            } else {
+                final byte[] hash = e.signatureHash();
+                final int slot = find(hash);
+                final Event<?>[] existing = values[slot];
+                if (existing == null) {
+                    final int k = slot * HASH_LONGS;
+                    for (int i = 0; i < HASH_LONGS; i++) {
+                        keys[k + i] = getLong(hash, i * Long.BYTES);
+                    }
+                    values[slot] = new Event<?>[] { e };
+                } else if (!Arrays.asList(existing).contains(e)) { // same signature, different indexing
+                    final Event<?>[] grown = Arrays.copyOf(existing, existing.length + 1);
+                    grown[existing.length] = e;
+                    values[slot] = grown;
+                } else {
+                    continue;
+                }
+            }
+            count++;
+        }
+        this.anonymousByTopicCount = new Event<?>[anonymous.size()][];
+        for (int i = 0; i < anonymousByTopicCount.length; i++) {
+            anonymousByTopicCount[i] = anonymous.get(i).toArray(NONE);
+        }
+        this.size = count;
+    }
+
+    /**
+     * Indexes the events among the given objects, e.g. the output of {@link ABIParser#parse(String)}. Other kinds of
+     * objects are ignored, as are duplicates.
+     *
+     * @param objects   the objects to index
+     * @return  the registry
+     */
+    public static EventRegistry of(Collection<? extends ABIObject> objects) {
+        final List<Event<?>> events = new ArrayList<>(objects.size());
+        for (ABIObject o : objects) {
+            if (o.isEvent()) {
+                events.add(o.asEvent());
+            }
+        }
+        return new EventRegistry(events);
+    }
+
+    public static EventRegistry of(Event<?>... events) {
+        return of(Arrays.asList(events));
+    }
+
+    /** @return the number of distinct events indexed */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the registered event which the log matches and decodes the log with it. A log matches a non-anonymous event
+     * if {@code topics[0]} is the event's signature hash and the number of topics is as the event requires. Failing
+     * that, the anonymous events with the log's number of topics are tried in registration order and the first which
+     * decodes the log is used.
+     *
+     * @param topics    the log's topics
+     * @param data  the log's data
+     * @return  the event and its decoded arguments, or {@link #NOT_FOUND}
+     * @throws IllegalArgumentException if the log matches a non-anonymous event by signature hash and topic count but
+     *                                  is malformed
+     */
+    public DecodedLog decode(byte[][] topics, byte[] data) {
+        return decodeLog(topics, data, null);
+    }
+
+    /** Equivalent to {@link #decode(byte[][], byte[])} but draws scratch space from the given context. */
+    public DecodedLog decode(byte[][] topics, byte[] data, DecodeContext ctx) {
+        return decodeLog(topics, data, Objects.requireNonNull(ctx));
+    }
+
+    private DecodedLog decodeLog(byte[][] topics, byte[] data, DecodeContext ctx) {
+        final int topicCount = topics == null ? 0 : topics.length;
+        if (topicCount > 0 && topics[0].length == HASH_LONGS * Long.BYTES) {
+            final Event<?>[] candidates = values[find(topics[0])];
+            if (candidates != null) {
+                IllegalArgumentException failure = null;
+                for (Event<?> e : candidates) {
+                    if (e.topicCount() == topicCount) {
+                        try {
+                            return new DecodedLog(e, decodeArgs(e, topics, data, ctx));
+                        } catch (IllegalArgumentException | BufferUnderflowException ex) {
+                            if (failure == null) {
+                                failure = new IllegalArgumentException("no event with signature hash "
+                                        + FastHex.encodeToString(topics[0]) + " could decode the log");
+                            }
+                            failure.addSuppressed(ex);
+                        }
+                    }
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        }
+        if (topicCount < anonymousByTopicCount.length) {
+            for (Event<?> e : anonymousByTopicCount[topicCount]) {
+                try {
+                    return new DecodedLog(e, decodeArgs(e, topics, data, ctx));
+                } catch (IllegalArgumentException | BufferUnderflowException ignored) {
+                    /* not a match; try the next */
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static Tuple decodeArgs(Event<?> e, byte[][] topics, byte[] data, DecodeContext ctx) {
+        return ctx == null ? e.decodeArgs(topics, data) : e.decodeArgs(topics, data, ctx);
+    }
+
+    /* returns the slot holding the hash, or else the empty slot where it would go. hash.length must be 32 */
+    private int find(byte[] hash) {
+        final long a = getLong(hash, 0), b = getLong(hash, 8), c = getLong(hash, 16), d = getLong(hash, 24);
+        int slot = (int) (d ^ (d >>> 32)) & mask; // the hash is already uniformly distributed
+        for (;;) {
+            if (values[slot] == null) {
+                return slot;
+            }
+            final int k = slot * HASH_LONGS;
+            if (keys[k] == a && keys[k + 1] == b && keys[k + 2] == c && keys[k + 3] == d) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static long getLong(byte[] b, int off) {
+        long v = 0L;
+        for (int i = off; i < off + Long.BYTES; i++) {
+            v = (v << Byte.SIZE) | (b[i] & 0xFFL);
+        }
+        return v;
+    }
+}
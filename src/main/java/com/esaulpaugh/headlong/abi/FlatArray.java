@@ -0,0 +1,180 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A read-only indexed view over the contiguous storage produced by {@link ArrayType#decodeFlat(java.nio.ByteBuffer)}. Elements
+ * are materialized only when accessed, so decoding an array of n elements allocates a constant number of objects
+ * rather than n.
+ *
+ * @param <T>   the type returned by {@link #get(int)}
+ */
+public abstract class FlatArray<T> {
+
+    final int size;
+
+    FlatArray(int size) {
+        this.size = size;
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    public abstract T get(int index);
+
+    final int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return index;
+    }
+
+    /** Fixed-length byte strings ({@code bytesN} or {@code address}) stored end to end, {@link #stride()} bytes apiece. */
+    public static final class Bytes extends FlatArray<byte[]> {
+
+        private final byte[] data;
+        private final int stride;
+
+        Bytes(byte[] data, int stride) {
+            super(data.length / stride);
+            this.data = data;
+            this.stride = stride;
+        }
+
+        public int stride() {
+            return stride;
+        }
+
+        @Override
+        public byte[] get(int index) {
+            final int start = checkIndex(index) * stride;
+            return Arrays.copyOfRange(data, start, start + stride);
+        }
+
+        public void copyTo(int index, byte[] dest, int destPos) {
+            System.arraycopy(data, checkIndex(index) * stride, dest, destPos, stride);
+        }
+
+        public Address getAddress(int index) {
+            return Address.fromBytes(data, checkIndex(index) * stride);
+        }
+
+        /**
+         * @return  the backing array, not a copy
+         */
+        public byte[] array() {
+            return data;
+        }
+    }
+
+    /** Booleans packed 64 to a {@code long}, least significant bit first. */
+    public static final class Bits extends FlatArray<Boolean> {
+
+        private final long[] bits;
+
+        Bits(long[] bits, int size) {
+            super(size);
+            this.bits = bits;
+        }
+
+        public boolean getBoolean(int index) {
+            checkIndex(index);
+            return (bits[index >>> 6] & (1L << index)) != 0L;
+        }
+
+        @Override
+        public Boolean get(int index) {
+            return getBoolean(index);
+        }
+
+        public int cardinality() {
+            int count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        /**
+         * @return  the backing array, not a copy
+         */
+        public long[] array() {
+            return bits;
+        }
+    }
+
+    /** 256-bit integers stored as four {@code long}s apiece, most significant first. */
+    public static final class Words extends FlatArray<BigInteger> {
+
+        private final long[] words;
+        private final boolean unsigned;
+
+        Words(long[] words, boolean unsigned) {
+            super(words.length / 4);
+            this.words = words;
+            this.unsigned = unsigned;
+        }
+
+        public boolean isUnsigned() {
+            return unsigned;
+        }
+
+        /**
+         * @param index the element index
+         * @param word  0 through 3, where 0 is the most significant
+         * @return  the word
+         */
+        public long getWord(int index, int word) {
+            if (word < 0 || word > 3) {
+                throw new IndexOutOfBoundsException("word " + word);
+            }
+            return words[checkIndex(index) * 4 + word];
+        }
+
+        @Override
+        public BigInteger get(int index) {
+            final int i = checkIndex(index) * 4;
+            return Uint256.toBigInteger(unsigned, words[i], words[i + 1], words[i + 2], words[i + 3]);
+        }
+
+        public Uint256 getUint256(int index) {
+            if (!unsigned) {
+                throw new IllegalStateException("elements are signed");
+            }
+            final int i = checkIndex(index) * 4;
+            return new Uint256(words[i], words[i + 1], words[i + 2], words[i + 3]);
+        }
+
+        public Int256 getInt256(int index) {
+            if (unsigned) {
+                throw new IllegalStateException("elements are unsigned");
+            }
+            final int i = checkIndex(index) * 4;
+            return new Int256(words[i], words[i + 1], words[i + 2], words[i + 3]);
+        }
+
+        /**
+         * @return  the backing array, not a copy
+         */
+        public long[] array() {
+            return words;
+        }
+    }
+}
@@ -25,7 +25,9 @@ import java.nio.charset.StandardCharsets;
 import java.security.DigestException;
 import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.IntFunction;
 
 import static com.esaulpaugh.headlong.abi.ABIType.ID_LABEL_PADDED;
@@ -96,6 +98,31 @@ public final class Function implements ABIObject {
         generateSelector(messageDigest);
     }
 
+    /* validates but does not hash; selector is trusted to be the one hashAlgorithm yields for the canonical signature */
+    @SuppressWarnings("unchecked")
+    Function(TypeEnum type, String name, TupleType<?> inputs, TupleType<?> outputs, String stateMutability, String hashAlgorithm, byte[] selector) {
+        this.type = Objects.requireNonNull(type);
+        this.name = name != null ? validateName(name) : null;
+        this.inputTypes = (TupleType<Tuple>) Objects.requireNonNull(inputs);
+        this.outputTypes = (TupleType<Tuple>) Objects.requireNonNull(outputs);
+        this.stateMutability = stateMutability;
+        this.hashAlgorithm = Objects.requireNonNull(hashAlgorithm);
+        validateFunction();
+        System.arraycopy(selector, 0, this.selector, 0, SELECTOR_LEN);
+    }
+
+    /* copies f with structurally identical input and output types, without rehashing the signature */
+    @SuppressWarnings("unchecked")
+    Function(Function f, TupleType<?> inputs, TupleType<?> outputs) {
+        this.type = f.type;
+        this.name = f.name;
+        this.inputTypes = (TupleType<Tuple>) inputs;
+        this.outputTypes = (TupleType<Tuple>) outputs;
+        this.stateMutability = f.stateMutability;
+        this.hashAlgorithm = f.hashAlgorithm;
+        System.arraycopy(f.selector, 0, this.selector, 0, SELECTOR_LEN);
+    }
+
     @Override
     public TypeEnum getType() {
         return type;
@@ -176,8 +203,13 @@ public final class Function implements ABIObject {
     }
 
     private void generateSelector(MessageDigest messageDigest) {
+        final byte[] signature = getCanonicalSignature().getBytes(StandardCharsets.US_ASCII);
+        if (messageDigest instanceof Keccak && messageDigest.getDigestLength() == 32) {
+            Keccak.keccak256(signature, 0, signature.length, selector, 0, SELECTOR_LEN); // skip the MessageDigest machinery
+            return;
+        }
         messageDigest.reset();
-        messageDigest.update(getCanonicalSignature().getBytes(StandardCharsets.US_ASCII));
+        messageDigest.update(signature);
         try {
             messageDigest.digest(selector, 0, SELECTOR_LEN);
         } catch (DigestException de) {
@@ -213,10 +245,17 @@ public final class Function implements ABIObject {
 
     @SuppressWarnings("unchecked")
     public <T extends Tuple> T decodeCall(byte[] call) {
-        checkSelector(Arrays.copyOf(call, SELECTOR_LEN));
+        checkSelector(call);
         return (T) inputTypes.decode(call, SELECTOR_LEN, call.length - SELECTOR_LEN);
     }
 
+    /** Equivalent to {@link #decodeCall(byte[])} but draws scratch space from the given context. */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeCall(byte[] call, DecodeContext ctx) {
+        checkSelector(call);
+        return (T) inputTypes.decode(call, SELECTOR_LEN, call.length - SELECTOR_LEN, ctx);
+    }
+
     /**
      * The inverse of {@link #encodeCall}.
      *
@@ -229,6 +268,13 @@ public final class Function implements ABIObject {
         return (T) inputTypes.decode(buffer);
     }
 
+    /** Equivalent to {@link #decodeCall(ByteBuffer)} but draws scratch space from the given context. */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeCall(ByteBuffer buffer, DecodeContext ctx) {
+        checkSelector(buffer);
+        return (T) inputTypes.decode(buffer, ctx);
+    }
+
     /** Decode-with-indices. */
     public <T> T decodeCall(byte[] call, int... indices) {
         return decodeCall(ByteBuffer.wrap(call), indices);
@@ -241,18 +287,29 @@ public final class Function implements ABIObject {
     }
 
     private void checkSelector(ByteBuffer bb) {
-        final byte[] four = new byte[SELECTOR_LEN];
-        bb.get(four, 0, four.length);
-        checkSelector(four);
+        final int found = bb.getInt();
+        if (found != selectorInt()) {
+            throw selectorMismatch(ByteBuffer.allocate(SELECTOR_LEN).putInt(found).array());
+        }
     }
 
-    private void checkSelector(byte[] found) {
-        if (!MessageDigest.isEqual(found, selector)) {
-                throw new IllegalArgumentException("given selector does not match: expected: " + selectorHex()
-                        + ", found: " + FastHex.encodeToString(found));
+    private void checkSelector(byte[] call) {
+        for (int i = 0; i < SELECTOR_LEN; i++) {
+            if (i >= call.length || call[i] != selector[i]) {
+                throw selectorMismatch(Arrays.copyOf(call, SELECTOR_LEN));
+            }
         }
     }
 
+    int selectorInt() {
+        return (selector[0] << 24) | ((selector[1] & 0xFF) << 16) | ((selector[2] & 0xFF) << 8) | (selector[3] & 0xFF);
+    }
+
+    private IllegalArgumentException selectorMismatch(byte[] found) {
+        return new IllegalArgumentException("given selector does not match: expected: " + selectorHex()
+                + ", found: " + FastHex.encodeToString(found));
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Tuple> T decodeReturn(byte[] returnVals) {
         return (T) outputTypes.decode(returnVals);
@@ -263,6 +320,46 @@ public final class Function implements ABIObject {
         return (T) outputTypes.decode(buf);
     }
 
+    /** Equivalent to {@link #decodeReturn(byte[])} but draws scratch space from the given context. */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeReturn(byte[] returnVals, DecodeContext ctx) {
+        return (T) outputTypes.decode(returnVals, ctx);
+    }
+
+    /** Equivalent to {@link #decodeReturn(ByteBuffer)} but draws scratch space from the given context. */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeReturn(ByteBuffer buf, DecodeContext ctx) {
+        return (T) outputTypes.decode(buf, ctx);
+    }
+
+    /**
+     * Decodes many independent function calls in parallel on the given {@link Executor}, e.g. a
+     * {@link java.util.concurrent.ForkJoinPool} or a virtual-thread-per-task executor. Each worker reuses its own
+     * {@link DecodeContext}. A payload which fails to decode yields a failed {@link DecodeResult} rather than failing
+     * the batch.
+     *
+     * @param calls the encoded calls
+     * @param executor  the executor on which to run the work
+     * @param <T>   the type of the decoded arguments
+     * @return  one result per call, in the same order as {@code calls}
+     */
+    public <T extends Tuple> List<DecodeResult<T>> decodeCallBatch(List<byte[]> calls, Executor executor) {
+        return DecodeResult.decodeAll(calls, executor, this::decodeCall);
+    }
+
+    /**
+     * Decodes many independent return values in parallel on the given {@link Executor}. See
+     * {@link #decodeCallBatch(List, Executor)}.
+     *
+     * @param returnVals    the encoded return values
+     * @param executor  the executor on which to run the work
+     * @param <T>   the type of the decoded return values
+     * @return  one result per payload, in the same order as {@code returnVals}
+     */
+    public <T extends Tuple> List<DecodeResult<T>> decodeReturnBatch(List<byte[]> returnVals, Executor executor) {
+        return DecodeResult.decodeAll(returnVals, executor, this::decodeReturn);
+    }
+
     /** Decode-with-indices. */
     public <T> T decodeReturn(byte[] returnVals, int... indices) {
         return decodeReturn(ByteBuffer.wrap(returnVals), indices);
@@ -282,6 +379,58 @@ public final class Function implements ABIObject {
         return outputTypes.decode(buf, indices);
     }
 
+    /**
+     * Decodes the single nested element of the function output to which the path leads. For repeated use, prefer
+     * {@link #decodeReturn(byte[], Projection)} with a {@link Projection} compiled once.
+     *
+     * @param returnVals    the encoded function output
+     * @param path  the indices of the element
+     * @return  the decoded element
+     * @param <T>   the element's type
+     */
+    public <T> T decodeReturn(byte[] returnVals, Path path) {
+        return this.<T>project(path).decode(returnVals);
+    }
+
+    public <T> T decodeReturn(byte[] returnVals, Projection<T> projection) {
+        return decodeReturn(ByteBuffer.wrap(returnVals), projection);
+    }
+
+    /**
+     * Decodes the single nested element of the function output selected by the projection.
+     * NOTE: This method does not advance the {@link ByteBuffer}'s {@code position}.
+     *
+     * @param buf   the buffer containing the encoded function output
+     * @param projection    a projection compiled against this function's output type
+     * @return  the decoded element
+     * @param <T>   the element's type
+     */
+    public <T> T decodeReturn(ByteBuffer buf, Projection<T> projection) {
+        if (!projection.rootEquals(outputTypes)) {
+            throw new IllegalArgumentException("projection not compiled for output type " + outputTypes.canonicalType);
+        }
+        return projection.decode(buf);
+    }
+
+    /**
+     * @param path  the indices of an element of the function output
+     * @return  the compiled projection, reusable with {@link #decodeReturn(byte[], Projection)}
+     * @param <T>   the element's type
+     */
+    public <T> Projection<T> project(Path path) {
+        return Projection.compile(outputTypes, path);
+    }
+
+    /** Lazy decode. Each element of the function output is decoded upon first access. */
+    public LazyTuple decodeReturnLazy(byte[] returnVals) {
+        return outputTypes.decodeLazy(returnVals);
+    }
+
+    /** @see TupleType#decodeLazy(ByteBuffer) */
+    public LazyTuple decodeReturnLazy(ByteBuffer buf) {
+        return outputTypes.decodeLazy(buf);
+    }
+
     @SuppressWarnings("unchecked")
     public <J> J decodeSingletonReturn(byte[] singleton) {
         if (outputTypes.size() == 1) {
@@ -363,15 +512,43 @@ public final class Function implements ABIObject {
     }
 // ---------------------------------------------------------------------------------------------------------------------
     public static Function parse(String signature) {
-        return new Function(signature);
+        return parse(ABIType.FLAGS_NONE, signature, null);
     }
 
     public static Function parse(String signature, String outputs) {
-        return new Function(signature, outputs);
+        return parse(ABIType.FLAGS_NONE, signature, outputs);
     }
 
     public static Function parse(int flags, String signature, String outputs) {
-        return new Function(signature, outputs == null ? TupleType.empty(flags) : TupleType.parse(flags, outputs), flags);
+        final BoundedCache<BoundedCache.Key, Function> cache = parseCache;
+        if (cache == null) {
+            return new Function(signature, outputs == null ? TupleType.empty(flags) : TupleType.parse(flags, outputs), flags);
+        }
+        final BoundedCache.Key key = new BoundedCache.Key(flags, signature, outputs);
+        Function f = cache.get(key);
+        if (f == null) {
+            f = new Function(signature, outputs == null ? TupleType.empty(flags) : TupleType.parse(flags, outputs), flags);
+            cache.put(key, f);
+        }
+        return f;
+    }
+
+    private static volatile BoundedCache<BoundedCache.Key, Function> parseCache;
+
+    /**
+     * Sets the maximum number of {@link Function}s which the {@code parse} methods retain, keyed by flags, signature and
+     * outputs and shared by all threads. Least recently used entries are evicted first. Zero, the default, disables
+     * caching. Replacing the capacity discards the existing entries and counters.
+     *
+     * @param maxEntries    the approximate capacity, or 0
+     */
+    public static void setParseCacheCapacity(int maxEntries) {
+        parseCache = TypeFactory.newCache(maxEntries);
+    }
+
+    /** @return the parse cache's counters since its capacity was last set */
+    public static CacheStats parseCacheStats() {
+        return TypeFactory.stats(parseCache);
     }
 
     /**
@@ -0,0 +1,222 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.FastHex;
+
+import java.nio.BufferUnderflowException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.esaulpaugh.headlong.abi.Function.SELECTOR_LEN;
+
+/**
+ * An immutable index of {@link Function}s by 4-byte selector, for decoding calldata without knowing in advance which
+ * function it calls. Selectors are kept as {@code int}s in an open-addressing table with linear probing. Functions
+ * whose selectors collide share one slot; calldata is decoded by such a function only if no other shares its
+ * selector or if it is the only one able to decode the calldata. Instances are thread-safe.
+ */
+public final class FunctionRegistry {
+
+    /** A decoded call and the {@link Function} which decoded it. */
+    public static final class DecodedCall {
+
+        private final Function function;
+        private final Tuple args;
+
+        DecodedCall(Function function, Tuple args) {
+            this.function = function;
+            this.args = args;
+        }
+
+        public Function function() {
+            return function;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T extends Tuple> T args() {
+            return (T) args;
+        }
+
+        @Override
+        public String toString() {
+            return function.getCanonicalSignature() + " " + args;
+        }
+    }
+
+    private static final Function[] NOT_FOUND = new Function[0];
+
+    private final int mask;
+    private final int[] keys;
+    private final Function[][] values; // null marks an empty slot, as every int is a valid selector
+    private final int size;
+
+    private FunctionRegistry(List<Function> functions) {
+        int capacity = Integer.highestOneBit(Math.max(2, functions.size()) * 2 - 1) << 1; // load factor <= 0.5
+        this.mask = capacity - 1;
+        this.keys = new int[capacity];
+        this.values = new Function[capacity][];
+        int count = 0;
+        for (Function f : functions) {
+            final int selector = f.selectorInt();
+            final int slot = find(selector);
+            final Function[] existing = values[slot];
+            if (existing == null) {
+                keys[slot] = selector;
+                values[slot] = new Function[] { f };
+            } else if (!Arrays.asList(existing).contains(f)) {
+                final Function[] grown = Arrays.copyOf(existing, existing.length + 1);
+                grown[existing.length] = f;
+                values[slot] = grown;
+            } else {
+                continue;
+            }
+            count++;
+        }
+        this.size = count;
+    }
+
+    /**
+     * Indexes the functions ({@link TypeEnum#FUNCTION}) among the given objects, e.g. the output of
+     * {@link ABIParser#parse(String)}. Other kinds of objects are ignored, as are duplicates.
+     *
+     * @param objects   the objects to index
+     * @return  the registry
+     */
+    public static FunctionRegistry of(Collection<? extends ABIObject> objects) {
+        final List<Function> functions = new ArrayList<>(objects.size());
+        for (ABIObject o : objects) {
+            if (o.isFunction() && o.getType() == TypeEnum.FUNCTION) {
+                functions.add(o.asFunction());
+            }
+        }
+        return new FunctionRegistry(functions);
+    }
+
+    public static FunctionRegistry of(Function... functions) {
+        return of(Arrays.asList(functions));
+    }
+
+    /** @return the number of distinct functions indexed */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param selector  the selector as a big-endian {@code int}
+     * @return  the functions with the given selector, in registration order; more than one only if selectors collide
+     */
+    public List<Function> lookup(int selector) {
+        final Function[] candidates = candidates(selector);
+        return candidates.length == 0 ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(candidates));
+    }
+
+    /** @see #lookup(int) */
+    public List<Function> lookup(byte[] selector) {
+        if (selector.length != SELECTOR_LEN) {
+            throw new IllegalArgumentException("expected selector length " + SELECTOR_LEN + " but found length " + selector.length);
+        }
+        return lookup(selectorInt(selector));
+    }
+
+    /**
+     * Decodes calldata using the function its selector identifies. If several functions share the selector, the calldata
+     * is decoded by each, and exactly one must succeed. Calldata which more than one can decode is ambiguous; callers
+     * which can disambiguate should choose among {@link #lookup(byte[])} themselves.
+     *
+     * @param calldata  the selector followed by the encoded arguments
+     * @return  the function and its decoded arguments
+     * @throws IllegalArgumentException if no function has the selector, or if not exactly one candidate can decode the calldata
+     */
+    public DecodedCall decodeCall(byte[] calldata) {
+        return decode(calldata, null);
+    }
+
+    /** Equivalent to {@link #decodeCall(byte[])} but draws scratch space from the given context. */
+    public DecodedCall decodeCall(byte[] calldata, DecodeContext ctx) {
+        return decode(calldata, Objects.requireNonNull(ctx));
+    }
+
+    private DecodedCall decode(byte[] calldata, DecodeContext ctx) {
+        if (calldata.length < SELECTOR_LEN) {
+            throw new IllegalArgumentException("calldata too short: " + calldata.length + " < " + SELECTOR_LEN);
+        }
+        final Function[] candidates = candidates(selectorInt(calldata));
+        if (candidates.length == 0) {
+            throw new IllegalArgumentException("no function with selector " + FastHex.encodeToString(calldata, 0, SELECTOR_LEN));
+        }
+        if (candidates.length == 1) {
+            final Function f = candidates[0];
+            return new DecodedCall(f, decodeCall(f, calldata, ctx));
+        }
+        DecodedCall match = null;
+        IllegalArgumentException failure = null;
+        for (Function f : candidates) {
+            final Tuple args;
+            try {
+                args = decodeCall(f, calldata, ctx);
+            } catch (IllegalArgumentException | BufferUnderflowException e) {
+                if (failure == null) {
+                    failure = new IllegalArgumentException("no function with selector "
+                            + FastHex.encodeToString(calldata, 0, SELECTOR_LEN) + " could decode the calldata");
+                }
+                failure.addSuppressed(e);
+                continue;
+            }
+            if (match != null) {
+                throw new IllegalArgumentException("ambiguous calldata for selector " + FastHex.encodeToString(calldata, 0, SELECTOR_LEN)
+                        + ": decodable by both " + match.function.getCanonicalSignature() + " and " + f.getCanonicalSignature());
+            }
+            match = new DecodedCall(f, args);
+        }
+        if (match != null) {
+            return match;
+        }
+        throw failure;
+    }
+
+    private static Tuple decodeCall(Function f, byte[] calldata, DecodeContext ctx) {
+        return ctx == null ? f.decodeCall(calldata) : f.decodeCall(calldata, ctx);
+    }
+
+    private Function[] candidates(int selector) {
+        final Function[] found = values[find(selector)];
+        return found != null ? found : NOT_FOUND;
+    }
+
+    /* returns the slot holding the selector, or else the empty slot where it would go */
+    private int find(int selector) {
+        int slot = mix(selector) & mask;
+        while (values[slot] != null && keys[slot] != selector) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /* spread the bits so that mined selectors, e.g. with leading zero bytes, still probe independently */
+    private static int mix(int selector) {
+        final int h = selector * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int selectorInt(byte[] b) {
+        return (b[0] << 24) | ((b[1] & 0xFF) << 16) | ((b[2] & 0xFF) << 8) | (b[3] & 0xFF);
+    }
+}
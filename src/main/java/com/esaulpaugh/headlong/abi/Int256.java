@@ -0,0 +1,151 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * An immutable signed (two's complement) 256-bit integer stored as four {@code long} words, most significant first.
+ * Produced in place of {@link BigInteger} for int256 values by types created with {@link ABIType#FLAG_INT256_LIMBS}.
+ *
+ * @see Uint256
+ */
+public final class Int256 extends Number implements Comparable<Int256> {
+
+    private static final long serialVersionUID = -2383508741502339176L;
+
+    public static final Int256 ZERO = new Int256(0L, 0L, 0L, 0L);
+    public static final Int256 ONE = new Int256(0L, 0L, 0L, 1L);
+    public static final Int256 MINUS_ONE = new Int256(-1L, -1L, -1L, -1L);
+    public static final Int256 MIN_VALUE = new Int256(Long.MIN_VALUE, 0L, 0L, 0L);
+    public static final Int256 MAX_VALUE = new Int256(Long.MAX_VALUE, -1L, -1L, -1L);
+
+    final long a, b, c, d;
+
+    Int256(long a, long b, long c, long d) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+    }
+
+    /**
+     * @param a the most significant 64 bits, including the sign bit
+     * @param b the next 64 bits
+     * @param c the next 64 bits
+     * @param d the least significant 64 bits
+     * @return  the value
+     */
+    public static Int256 of(long a, long b, long c, long d) {
+        return new Int256(a, b, c, d);
+    }
+
+    public static Int256 valueOf(long val) {
+        final long ext = val >> (Long.SIZE - 1);
+        return new Int256(ext, ext, ext, val);
+    }
+
+    public static Int256 valueOf(BigInteger val) {
+        Int256Type.INSTANCE.validateBigInt(val);
+        final ByteBuffer bb = Uint256.wordsOf(val);
+        return new Int256(bb.getLong(), bb.getLong(), bb.getLong(), bb.getLong());
+    }
+
+    /**
+     * Returns the 64-bit word at the given index, where index 0 is the most significant.
+     *
+     * @param index 0, 1, 2, or 3
+     * @return  the word
+     */
+    public long getWord(int index) {
+        switch (index) {
+        case 0: return a;
+        case 1: return b;
+        case 2: return c;
+        case 3: return d;
+        default: throw new IndexOutOfBoundsException("" + index);
+        }
+    }
+
+    public int signum() {
+        return a < 0L ? -1 : (a | b | c | d) == 0L ? 0 : 1;
+    }
+
+    public BigInteger toBigInteger() {
+        return Uint256.toBigInteger(false, a, b, c, d);
+    }
+
+    public long longValueExact() {
+        if (fitsInLong()) {
+            return d;
+        }
+        throw new ArithmeticException("out of long range");
+    }
+
+    private boolean fitsInLong() {
+        final long ext = d >> (Long.SIZE - 1);
+        return a == ext && b == ext && c == ext;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) d;
+    }
+
+    @Override
+    public long longValue() {
+        return d;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return fitsInLong() ? d : toBigInteger().doubleValue();
+    }
+
+    @Override
+    public int compareTo(Int256 o) {
+        int cmp = Long.compare(a, o.a);
+        if (cmp != 0) return cmp;
+        cmp = Long.compareUnsigned(b, o.b);
+        if (cmp != 0) return cmp;
+        cmp = Long.compareUnsigned(c, o.c);
+        return cmp != 0 ? cmp : Long.compareUnsigned(d, o.d);
+    }
+
+    @Override
+    public int hashCode() {
+        return Uint256.hash(a, b, c, d);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof Int256)) return false;
+        final Int256 other = (Int256) o;
+        return other.d == this.d && other.c == this.c && other.b == this.b && other.a == this.a;
+    }
+
+    @Override
+    public String toString() {
+        return fitsInLong() ? Long.toString(d) : toBigInteger().toString();
+    }
+}
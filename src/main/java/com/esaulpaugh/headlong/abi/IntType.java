@@ -41,6 +41,11 @@ public final class IntType extends UnitType<Integer> {
         return TYPE_CODE_INT;
     }
 
+    /* decodes without boxing; for use by unsigned instances */
+    final int decodeUnsignedInt(ByteBuffer bb) {
+        return (int) decodeUnsignedLong(bb);
+    }
+
     @Override
     Integer decode(ByteBuffer bb, byte[] unitBuffer) {
         return (int) (
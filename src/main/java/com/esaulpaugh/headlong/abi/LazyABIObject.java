@@ -0,0 +1,103 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.util.Arrays;
+
+/**
+ * An entry of a contract ABI which holds only its type, name and JSON until first use, when the full {@link Function},
+ * {@link Event} or {@link ContractError} is built. A function's selector can be computed without building it.
+ * Thread-safe. See
+ * {@link ABIParser#parseLazy(String)}.
+ */
+public final class LazyABIObject {
+
+    private final TypeEnum type;
+    private final String name;
+    private final String json;
+    private final int flags;
+    private final ABITypeInterner interner;
+    private volatile byte[] selector;
+    private volatile ABIObject object;
+
+    LazyABIObject(TypeEnum type, String name, String json, int flags, ABITypeInterner interner) {
+        this.type = type;
+        this.name = name;
+        this.json = json;
+        this.flags = flags;
+        this.interner = interner;
+    }
+
+    public TypeEnum getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the four-byte selector if this is a named {@link TypeEnum#FUNCTION}, otherwise null. Computed on first call
+     * from the canonical input types, without building the {@link Function}.
+     *
+     * @return  the selector or null
+     */
+    public byte[] selector() {
+        if (type != TypeEnum.FUNCTION || name == null) {
+            return null;
+        }
+        byte[] s = selector;
+        if (s == null) {
+            final ABIObject o = object;
+            selector = s = o != null ? o.asFunction().selector() : ABIJSON.selector(name, json);
+        }
+        return Arrays.copyOf(s, s.length);
+    }
+
+    /** @return the entry's JSON object, exactly as it appeared in the array */
+    public String getJson() {
+        return json;
+    }
+
+    public boolean isBuilt() {
+        return object != null;
+    }
+
+    /**
+     * Returns the {@link ABIObject}, building it on first call. Concurrent first calls may each build an equal instance,
+     * of which one is retained.
+     *
+     * @return  the object
+     * @param <T>   {@link Function}, {@link Event}, {@link ContractError}, or supertype {@link ABIObject}
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ABIObject> T get() {
+        ABIObject o = object;
+        if (o == null) {
+            o = ABIJSON.parseABIObject(json, ABIJSON.ALL, Function.newDefaultDigest(), flags);
+            if (interner != null) {
+                o = interner.internObject(o);
+            }
+            object = o;
+        }
+        return (T) o;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + name;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A read-only view over an encoded tuple which decodes each element only upon the first call to {@link #get(int)} for
+ * its index and caches the result. Obtained via {@link TupleType#decodeLazy(ByteBuffer)}. Errors in the encoding are
+ * reported only when the affected element is accessed. Safe for use by multiple threads. Be warned that the view reads
+ * from the original input, which must therefore not be modified while the view is in use.
+ */
+public final class LazyTuple implements Iterable<Object> {
+
+    private final TupleType<?> type;
+    private final ByteBuffer bb;
+    private final int start;
+    private final byte[] unitBuffer = ABIType.newUnitBuffer();
+    private final AtomicReferenceArray<Object> elements;
+
+    LazyTuple(TupleType<?> type, ByteBuffer bb, int start) {
+        this.type = type;
+        this.bb = bb;
+        this.start = start;
+        this.elements = new AtomicReferenceArray<>(type.size());
+    }
+
+    public TupleType<?> getType() {
+        return type;
+    }
+
+    public int size() {
+        return elements.length();
+    }
+
+    /**
+     * Returns the element at the specified position, decoding it if it has not been decoded already.
+     *
+     * @param index index of the element to return
+     * @return  the element at the specified position
+     * @param <T>   the element's type
+     * @throws IllegalArgumentException if the element's encoding is malformed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+        final Object val = elements.get(index);
+        return (T) (val != null ? val : decode(index));
+    }
+
+    private synchronized Object decode(int index) {
+        Object val = elements.get(index);
+        if (val == null) {
+            val = type.decodeIndex(bb, start, unitBuffer, index);
+            elements.set(index, val);
+        }
+        return val;
+    }
+
+    /**
+     * @param index the position of the element
+     * @return  true if the element has already been decoded
+     */
+    public boolean isDecoded(int index) {
+        return elements.get(index) != null;
+    }
+
+    /**
+     * Decodes any remaining elements and returns the result as a regular {@link Tuple}.
+     *
+     * @return  the fully decoded tuple
+     * @param <J>   the tuple's type
+     */
+    public <J extends Tuple> J toTuple() {
+        final Object[] values = new Object[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(i);
+        }
+        return Tuple.create(values);
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < size();
+            }
+
+            @Override
+            public Object next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(i++);
+            }
+        };
+    }
+}
@@ -29,8 +29,10 @@ import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_BIG_INTEGER;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_BOOLEAN;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_BYTE;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_INT;
+import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_INT256;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_LONG;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_TUPLE;
+import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_UINT256;
 import static com.esaulpaugh.headlong.abi.ABIType.newUnitBuffer;
 import static com.esaulpaugh.headlong.abi.ArrayType.DYNAMIC_LENGTH;
 import static com.esaulpaugh.headlong.abi.UnitType.UNIT_LENGTH_BYTES;
@@ -101,7 +103,9 @@ final class PackedDecoder {
         case TYPE_CODE_TUPLE: return type.dynamic
                                         ? decodeTuple(type.asTupleType(), bb, end)
                                         : decodeTupleStatic(type.asTupleType(), bb);
-        case TYPE_CODE_ADDRESS: return new Address(getBigInt(bb, type.byteLengthPacked(null)));
+        case TYPE_CODE_ADDRESS: return new Address(bb.getInt(), bb.getLong(), bb.getLong(), null);
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256: return type.decode(bb, (byte[]) null);
         default: throw new AssertionError();
         }
     }
@@ -163,7 +167,9 @@ final class PackedDecoder {
         case TYPE_CODE_LONG: array = decodeLongArray(arrayLen, bb); break;
         case TYPE_CODE_BIG_INTEGER:
         case TYPE_CODE_BIG_DECIMAL:
-        case TYPE_CODE_ADDRESS: array = decodeElements(elementType, arrayLen, bb); break;
+        case TYPE_CODE_ADDRESS:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256: array = decodeElements(elementType, arrayLen, bb); break;
         case TYPE_CODE_ARRAY:
         case TYPE_CODE_TUPLE: array = decodeObjectArray(elementType, arrayLen, bb); break;
         default: throw new AssertionError();
@@ -0,0 +1,64 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.util.Arrays;
+
+/**
+ * A sequence of element indices leading from an outer {@link TupleType} or {@link ArrayType} to a nested element, for
+ * example {@code Path.of(3, 1, 0)} for element 0 of element 1 of element 3. Compile into a {@link Projection} with
+ * {@link Projection#compile(ABIType, Path)}.
+ */
+public final class Path {
+
+    private final int[] indices;
+
+    private Path(int[] indices) {
+        this.indices = indices;
+    }
+
+    public static Path of(int... indices) {
+        for (int i : indices) {
+            if (i < 0) {
+                throw new IllegalArgumentException("negative index: " + i);
+            }
+        }
+        return new Path(Arrays.copyOf(indices, indices.length));
+    }
+
+    public int length() {
+        return indices.length;
+    }
+
+    public int get(int position) {
+        return indices[position];
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(indices);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || (o instanceof Path && Arrays.equals(((Path) o).indices, this.indices));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(indices);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.nio.ByteBuffer;
+
+import static com.esaulpaugh.headlong.abi.ABIType.OFFSET_LENGTH_BYTES;
+
+/**
+ * A {@link Path} resolved against a particular root type. All type checking and head offset arithmetic is done once at
+ * compile time, so that {@link #decode(ByteBuffer)} only follows offsets in the encoding and decodes the target element
+ * without decoding any of its siblings. Immutable and thread-safe.
+ *
+ * @param <T>   the Java type of the target element
+ */
+public final class Projection<T> {
+
+    private static final byte TUPLE = 0;
+    private static final byte STATIC_ARRAY = 1;
+    private static final byte DYNAMIC_ARRAY = 2;
+
+    private final ABIType<?> root;
+    private final Path path;
+    private final ABIType<T> type;
+    private final byte[] kinds;
+    private final int[] headOffsets;
+    private final boolean[] indirect;
+
+    private Projection(ABIType<?> root, Path path, ABIType<T> type, byte[] kinds, int[] headOffsets, boolean[] indirect) {
+        this.root = root;
+        this.path = path;
+        this.type = type;
+        this.kinds = kinds;
+        this.headOffsets = headOffsets;
+        this.indirect = indirect;
+    }
+
+    /**
+     * Validates the path against the root type and precomputes the head offset of each step.
+     *
+     * @param root  the type of the outermost value
+     * @param path  the indices of the target element
+     * @return  the compiled projection
+     * @param <T>   the Java type of the target element
+     * @throws IllegalArgumentException if the path does not lead to an element of the root type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Projection<T> compile(ABIType<?> root, Path path) {
+        final int n = path.length();
+        final byte[] kinds = new byte[n];
+        final int[] headOffsets = new int[n];
+        final boolean[] indirect = new boolean[n];
+        ABIType<?> t = root;
+        for (int k = 0; k < n; k++) {
+            final int index = path.get(k);
+            final ABIType<?> child;
+            if (t instanceof TupleType) {
+                final TupleType<?> tt = t.asTupleType();
+                checkBounds(k, index, tt.size());
+                child = tt.get(index);
+                kinds[k] = TUPLE;
+                headOffsets[k] = tt.elementHeadOffset(index);
+            } else if (t instanceof ArrayType && t.asArrayType().getElementType().typeCode() != ABIType.TYPE_CODE_BYTE) {
+                final ArrayType<?, ?, ?> at = t.asArrayType();
+                child = at.getElementType();
+                if (at.getLength() == ArrayType.DYNAMIC_LENGTH) {
+                    kinds[k] = DYNAMIC_ARRAY;
+                } else {
+                    checkBounds(k, index, at.getLength());
+                    kinds[k] = STATIC_ARRAY;
+                }
+                headOffsets[k] = index * (child.dynamic ? OFFSET_LENGTH_BYTES : child.headLength());
+            } else {
+                throw new IllegalArgumentException("path position " + k + ": can't index into " + t.canonicalType);
+            }
+            indirect[k] = child.dynamic;
+            t = child;
+        }
+        return new Projection<>(root, path, (ABIType<T>) t, kinds, headOffsets, indirect);
+    }
+
+    private static void checkBounds(int k, int index, int size) {
+        if (index >= size) {
+            throw new IllegalArgumentException("path position " + k + ": index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    public ABIType<?> getRoot() {
+        return root;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return  the type of the target element
+     */
+    public ABIType<T> getType() {
+        return type;
+    }
+
+    public T decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded));
+    }
+
+    /**
+     * Decodes the target element of the value encoded at the buffer's current position. NOTE: This method does not
+     * advance the {@link ByteBuffer}'s {@code position}.
+     *
+     * @param bb    the buffer containing the encoding of a value of the root type
+     * @return  the target element
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public T decode(ByteBuffer bb) {
+        final int start = bb.position();
+        final byte[] unitBuffer = ABIType.newUnitBuffer();
+        int k = 0;
+        try {
+            int base = start;
+            for ( ; k < kinds.length; k++) {
+                if (kinds[k] == DYNAMIC_ARRAY) {
+                    bb.position(base);
+                    final int len = IntType.UINT21.decodeUnsignedInt(bb);
+                    if (path.get(k) >= len) {
+                        throw new IllegalArgumentException("index " + path.get(k) + " out of bounds for length " + len);
+                    }
+                    base += OFFSET_LENGTH_BYTES;
+                }
+                final int head = base + headOffsets[k];
+                if (indirect[k]) {
+                    bb.position(head);
+                    base += IntType.UINT30.decodeUnsignedInt(bb);
+                } else {
+                    base = head;
+                }
+            }
+            bb.position(base);
+            return type.decode(bb, unitBuffer);
+        } catch (IllegalArgumentException cause) {
+            for (int j = Math.min(k, kinds.length - 1); j >= 0; j--) {
+                cause = TupleType.exceptionWithIndex(kinds[j] == TUPLE, path.get(j), cause);
+            }
+            throw cause;
+        } finally {
+            bb.position(start);
+        }
+    }
+
+    boolean rootEquals(ABIType<?> other) {
+        return other == root || other.equals(root);
+    }
+
+    @Override
+    public String toString() {
+        return root.canonicalType + path + " -> " + type.canonicalType;
+    }
+}
@@ -35,8 +35,10 @@ import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_BIG_INTEGER;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_BOOLEAN;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_BYTE;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_INT;
+import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_INT256;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_LONG;
 import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_TUPLE;
+import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_UINT256;
 import static com.esaulpaugh.headlong.rlp.RLPDecoder.RLP_STRICT;
 import static com.esaulpaugh.headlong.util.Strings.EMPTY_BYTE_ARRAY;
 
@@ -107,6 +109,8 @@ public final class SuperSerial {
         case TYPE_CODE_ARRAY: return serializeArray(type.asArrayType(), obj);
         case TYPE_CODE_TUPLE: return serializeTuple(type.asTupleType(), (Tuple) obj);
         case TYPE_CODE_ADDRESS: return serializeBigInteger((UnitType<?>) type, ((Address) obj).value());
+        case TYPE_CODE_UINT256: return serializeBigInteger((UnitType<?>) type, ((Uint256) obj).toBigInteger());
+        case TYPE_CODE_INT256: return serializeBigInteger((UnitType<?>) type, ((Int256) obj).toBigInteger());
         default: throw new AssertionError();
         }
     }
@@ -128,6 +132,8 @@ public final class SuperSerial {
         case TYPE_CODE_ARRAY: return deserializeArray(type.asArrayType(), item);
         case TYPE_CODE_TUPLE: return deserializeTuple(type.asTupleType(), item.asBytes());
         case TYPE_CODE_ADDRESS: return new Address(deserializeBigInteger((UnitType<?>) type, item));
+        case TYPE_CODE_UINT256: return Uint256.valueOf(deserializeBigInteger((UnitType<?>) type, item));
+        case TYPE_CODE_INT256: return Int256.valueOf(deserializeBigInteger((UnitType<?>) type, item));
         default: throw new AssertionError();
         }
     }
@@ -179,7 +185,9 @@ public final class SuperSerial {
         case TYPE_CODE_BIG_DECIMAL:
         case TYPE_CODE_ARRAY:
         case TYPE_CODE_TUPLE:
-        case TYPE_CODE_ADDRESS: return serializeObjectArray(et, (Object[]) arr);
+        case TYPE_CODE_ADDRESS:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256: return serializeObjectArray(et, (Object[]) arr);
         default: throw new AssertionError();
         }
     }
@@ -188,14 +196,16 @@ public final class SuperSerial {
         final ABIType<?> et = type.getElementType();
         switch (et.typeCode()) {
         case TYPE_CODE_BOOLEAN: return deserializeBooleanArray(item.asRLPList());
-        case TYPE_CODE_BYTE: return deserializeByteArray(item, type.isString());
+        case TYPE_CODE_BYTE: return deserializeByteArray(item, type);
         case TYPE_CODE_INT: return deserializeIntArray((IntType) et, item.asRLPList());
         case TYPE_CODE_LONG: return deserializeLongArray((LongType) et, item.asRLPList());
         case TYPE_CODE_BIG_INTEGER:
         case TYPE_CODE_BIG_DECIMAL:
         case TYPE_CODE_ARRAY:
         case TYPE_CODE_TUPLE:
-        case TYPE_CODE_ADDRESS: return deserializeObjectArray(et, item.asRLPList());
+        case TYPE_CODE_ADDRESS:
+        case TYPE_CODE_UINT256:
+        case TYPE_CODE_INT256: return deserializeObjectArray(et, item.asRLPList());
         default: throw new AssertionError();
         }
     }
@@ -218,11 +228,13 @@ public final class SuperSerial {
     }
 
     private static byte[] serializeByteArray(Object arr, boolean isString) {
-        return isString ? Strings.decode((String) arr, Strings.UTF_8) : (byte[]) arr;
+        return arr instanceof BytesView
+                ? ((BytesView) arr).toByteArray()
+                : isString ? Strings.decode((String) arr, Strings.UTF_8) : (byte[]) arr;
     }
 
-    private static Object deserializeByteArray(RLPItem item, boolean isString) {
-        return isString ? item.asString(Strings.UTF_8) : item.asBytes();
+    private static Object deserializeByteArray(RLPItem item, ArrayType<?, ?, ?> type) {
+        return type.isString() ? item.asString(Strings.UTF_8) : type.encodeIfString(item.asBytes());
     }
 
     private static byte[][] serializeIntArray(UnitType<?> ut, int[] values) {
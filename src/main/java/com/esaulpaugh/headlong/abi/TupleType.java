@@ -17,6 +17,7 @@ package com.esaulpaugh.headlong.abi;
 
 import com.esaulpaugh.headlong.util.FastHex;
 
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -42,6 +43,7 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
     final String[] elementInternalTypes;
     final boolean[] indexed;
     private final int[] elementHeadOffsets;
+    private final int[] elementTypeCodes;
     final int headLengthSum;
     private final int flags;
 
@@ -54,11 +56,14 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
         this.elementNames = elementNames;
         this.elementInternalTypes = elementInternalTypes;
         final int[] elementHeadOffsets = new int[elementTypes.length];
+        final int[] elementTypeCodes = new int[elementTypes.length];
         int headLengthSum = 0;
         for (int i = 0; i < elementTypes.length; headLengthSum += elementTypes[i++].headLength()) {
             elementHeadOffsets[i] = headLengthSum;
+            elementTypeCodes[i] = elementTypes[i].typeCode();
         }
         this.elementHeadOffsets = elementHeadOffsets;
+        this.elementTypeCodes = elementTypeCodes;
         this.headLengthSum = headLengthSum;
         this.indexed = indexed;
         this.flags = flags;
@@ -77,6 +82,10 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
         return size() == 0;
     }
 
+    int elementHeadOffset(int index) {
+        return elementHeadOffsets[index];
+    }
+
     public String getElementName(int index) {
         return elementNames == null ? null : elementNames[index];
     }
@@ -202,11 +211,45 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
             encodeDynamic(value.elements, dest);
         } else {
             for (int i = 0; i < value.elements.length; i++) {
-                this.<ABIType<Object>>get(i).encodeTail(value.elements[i], dest);
+                encodeElement(i, value.elements[i], dest);
             }
         }
     }
 
+    /**
+     * Dispatches on the element's precomputed type code so that the common element types are encoded via direct calls
+     * to final classes rather than via a megamorphic call to {@link ABIType#encodeTail}.
+     */
+    @SuppressWarnings("unchecked")
+    private void encodeElement(int i, Object value, ByteBuffer dest) {
+        final ABIType<?> t = elementTypes[i];
+        switch (elementTypeCodes[i]) {
+        case TYPE_CODE_BOOLEAN: BooleanType.encodeBoolean((Boolean) value, dest); return;
+        case TYPE_CODE_INT: insertInt((Integer) value, dest); return;
+        case TYPE_CODE_LONG: insertInt((Long) value, dest); return;
+        case TYPE_CODE_BIG_INTEGER: insertInt((BigInteger) value, UNIT_LENGTH_BYTES, dest); return;
+        case TYPE_CODE_ARRAY: ((ArrayType<?, ?, Object>) t).encodeTail(value, dest); return;
+        case TYPE_CODE_TUPLE: ((TupleType<?>) t).encodeTail((Tuple) value, dest); return;
+        case TYPE_CODE_ADDRESS: AddressType.INSTANCE.encodeTail((Address) value, dest); return;
+        default: ((ABIType<Object>) t).encodeTail(value, dest);
+        }
+    }
+
+    /** The decoding counterpart of {@link #encodeElement(int, Object, ByteBuffer)}. */
+    private Object decodeElement(int i, ByteBuffer bb, byte[] unitBuffer) {
+        final ABIType<?> t = elementTypes[i];
+        switch (elementTypeCodes[i]) {
+        case TYPE_CODE_BOOLEAN: return BooleanType.INSTANCE.decode(bb, unitBuffer);
+        case TYPE_CODE_INT: return ((IntType) t).decode(bb, unitBuffer);
+        case TYPE_CODE_LONG: return ((LongType) t).decode(bb, unitBuffer);
+        case TYPE_CODE_BIG_INTEGER: return ((BigIntegerType) t).decode(bb, unitBuffer);
+        case TYPE_CODE_ARRAY: return ((ArrayType<?, ?, ?>) t).decode(bb, unitBuffer);
+        case TYPE_CODE_TUPLE: return ((TupleType<?>) t).decode(bb, unitBuffer);
+        case TYPE_CODE_ADDRESS: return AddressType.INSTANCE.decode(bb, unitBuffer);
+        default: return t.decode(bb, unitBuffer);
+        }
+    }
+
     @Override
     void encodePackedUnchecked(Tuple value, ByteBuffer dest) {
         for (int i = 0; i < value.elements.length; i++) {
@@ -215,29 +258,20 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
     }
 
     private void encodeDynamic(Object[] values, ByteBuffer dest) {
-        int i = 0;
-        final int last = values.length - 1; // dynamic tuples are guaranteed not to be empty
-        int offset = headLengthSum;
-        for (;; i++) {
-            final ABIType<Object> t = get(i);
-            if (!t.dynamic) {
-                t.encodeTail(values[i], dest);
-                if (i == last) {
-                    break;
-                }
+        final int start = dest.position();
+        int i = 0; // dynamic tuples are guaranteed not to be empty
+        do {
+            if (!elementTypes[i].dynamic) {
+                encodeElement(i, values[i], dest);
             } else {
-                insertIntUnsigned(offset, dest); // insert offset
-                if (i == last) {
-                    break;
-                }
-                offset += t.dynamicByteLength(values[i]); // calculate next offset
+                insert00Padding(OFFSET_LENGTH_BYTES, dest); // reserve offset; filled in once the tail's position is known
             }
-        }
+        } while (++i < values.length);
         i = 0;
         do {
-            final ABIType<Object> t = get(i);
-            if (t.dynamic) {
-                t.encodeTail(values[i], dest);
+            if (elementTypes[i].dynamic) {
+                insertOffset(start, start + elementHeadOffsets[i], dest);
+                encodeElement(i, values[i], dest);
             }
         } while (++i < values.length);
     }
@@ -245,40 +279,64 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
     @Override
     J decode(ByteBuffer bb, byte[] unitBuffer) {
         final Object[] elements = new Object[size()];
+        walk(bb, elements, unitBuffer);
+        return Tuple.create(elements);
+    }
+
+    @Override
+    void scan(ByteBuffer bb) {
+        walk(bb, null, null);
+    }
+
+    /* the head and offset traversal shared by decode and scan. decodes each element into out or, if out is null, only scans it */
+    private void walk(ByteBuffer bb, Object[] out, byte[] unitBuffer) {
+        final int len = elementTypes.length;
         int i = 0;
         try {
             if (!dynamic) {
-                for ( ; i < elements.length; i++) {
-                    elements[i] = get(i).decode(bb, unitBuffer);
+                for ( ; i < len; i++) {
+                    visit(i, bb, out, unitBuffer);
                 }
             } else {
                 final int start = bb.position(); // save this value before offsets are decoded
-                final int[] offsets = new int[elements.length];
+                // legacy static byte arrays may occupy less than their head length, so only then must offsets be stored
+                final int[] offsets = (flags & ABIType.FLAG_LEGACY_DECODE) != 0 ? new int[len] : null;
                 do {
-                    ABIType<?> t = get(i);
-                    if (!t.dynamic) {
-                        elements[i] = t.decode(bb, unitBuffer);
+                    if (!elementTypes[i].dynamic) {
+                        visit(i, bb, out, unitBuffer);
+                    } else if (offsets != null) {
+                        offsets[i] = IntType.UINT30.decodeUnsignedInt(bb);
                     } else {
-                        offsets[i] = IntType.UINT30.decode(bb, unitBuffer) + 1; // read as 30-bit unsigned--no overflow possible
+                        IntType.UINT30.scan(bb); // validate now; re-read below
                     }
-                } while (++i < elements.length);
+                } while (++i < len);
                 i = 0;
                 do {
-                    final int offset = offsets[i];
-                    if (offset != 0) { // use != instead of > so as to tolerate any potential overflow/wraparound in the future
-                        final int jump = start + offset - 1;
-                        if (jump != bb.position()) { // && (this.flags & ABIType.FLAG_LEGACY_ARRAY) == 0
-                            /* LENIENT MODE; see https://github.com/ethereum/solidity/commit/3d1ca07e9b4b42355aa9be5db5c00048607986d1 */
-                            bb.position(jump); // leniently jump to specified offset
+                    if (elementTypes[i].dynamic) {
+                        final int offset;
+                        if (offsets != null) {
+                            offset = offsets[i];
+                        } else {
+                            bb.position(start + elementHeadOffsets[i]); // re-read the offset rather than storing it
+                            offset = IntType.UINT30.decodeUnsignedInt(bb);
                         }
-                        elements[i] = get(i).decode(bb, unitBuffer);
+                        /* LENIENT MODE; see https://github.com/ethereum/solidity/commit/3d1ca07e9b4b42355aa9be5db5c00048607986d1 */
+                        bb.position(start + offset); // leniently jump to specified offset
+                        visit(i, bb, out, unitBuffer);
                     }
-                } while (++i < elements.length);
+                } while (++i < len);
             }
         } catch (IllegalArgumentException cause) {
             throw exceptionWithIndex(true, i, cause);
         }
-        return Tuple.create(elements);
+    }
+
+    private void visit(int i, ByteBuffer bb, Object[] out, byte[] unitBuffer) {
+        if (out != null) {
+            out[i] = decodeElement(i, bb, unitBuffer);
+        } else {
+            elementTypes[i].scan(bb);
+        }
     }
 
     /**
@@ -303,19 +361,45 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
         }
     }
 
-    private Object decodeIndex(ByteBuffer bb, int start, byte[] unitBuffer, int i) {
+    Object decodeIndex(ByteBuffer bb, int start, byte[] unitBuffer, int i) {
         try {
-            final ABIType<?> t = get(i);
             bb.position(start + elementHeadOffsets[i]);
-            if (t.dynamic) {
-                bb.position(start + IntType.UINT30.decode(bb, unitBuffer));
+            if (elementTypes[i].dynamic) {
+                bb.position(start + IntType.UINT30.decodeUnsignedInt(bb));
             }
-            return t.decode(bb, unitBuffer);
+            return decodeElement(i, bb, unitBuffer);
         } catch (IllegalArgumentException cause) {
             throw exceptionWithIndex(true, i, cause);
         }
     }
 
+    /**
+     * Returns a view over the encoded tuple at the array's start which decodes each element upon first access.
+     *
+     * @param encoded   the encoding
+     * @return  the lazily decoding view
+     * @see #decodeLazy(ByteBuffer)
+     */
+    public LazyTuple decodeLazy(byte[] encoded) {
+        return decodeLazy(ByteBuffer.wrap(encoded));
+    }
+
+    /**
+     * Returns a view over the encoded tuple at the buffer's current position which decodes each element upon first
+     * access. Only the presence of the static head is checked up front. NOTE: This method does not advance the
+     * {@link ByteBuffer}'s {@code position}.
+     *
+     * @param bb    the buffer containing the encoding
+     * @return  the lazily decoding view
+     */
+    public LazyTuple decodeLazy(ByteBuffer bb) {
+        final int remaining = bb.remaining();
+        if (remaining < headLengthSum) {
+            throw new IllegalArgumentException("not enough bytes remaining: " + remaining + " < " + headLengthSum);
+        }
+        return new LazyTuple(this, bb.duplicate(), bb.position());
+    }
+
     private J decodeIndices(ByteBuffer bb, int... indices) {
         final Object[] results = new Object[size()];
         final int start = bb.position();
@@ -40,6 +40,7 @@ public final class TypeFactory {
     private static final ABIType<?> LEGACY_BYTES32 = UnitType.getLegacy("bytes32");
     private static final ABIType<?> BOOL = UnitType.get("bool");
     private static final ABIType<?> UINT_256 = UnitType.get("uint256");
+    private static final ABIType<?> INT_256 = UnitType.get("int256");
     private static final ABIType<?> UINT_8 = UnitType.get("uint8");
     private static final ABIType<?> UINT_32 = UnitType.get("uint32");
 
@@ -67,7 +68,46 @@ public final class TypeFactory {
 
     @SuppressWarnings("unchecked")
     public static <T extends ABIType<?>> T create(int flags, String rawType) {
-        return (T) build(rawType, null, null, flags);
+        final BoundedCache<BoundedCache.Key, ABIType<?>> cache = typeCache;
+        if (cache == null) {
+            return (T) build(rawType, null, null, flags);
+        }
+        final BoundedCache.Key key = new BoundedCache.Key(flags, rawType, null);
+        ABIType<?> type = cache.get(key);
+        if (type == null) {
+            type = build(rawType, null, null, flags);
+            cache.put(key, type);
+        }
+        return (T) type;
+    }
+
+    private static volatile BoundedCache<BoundedCache.Key, ABIType<?>> typeCache;
+
+    /**
+     * Sets the maximum number of {@link ABIType}s which {@link #create(int, String)} and {@link TupleType#parse(int, String)}
+     * retain, keyed by flags and raw type string and shared by all threads. Least recently used entries are evicted first.
+     * Zero, the default, disables caching. Replacing the capacity discards the existing entries and counters.
+     *
+     * @param maxEntries    the approximate capacity, or 0
+     */
+    public static void setCacheCapacity(int maxEntries) {
+        typeCache = newCache(maxEntries);
+    }
+
+    /** @return the type cache's counters since its capacity was last set */
+    public static CacheStats cacheStats() {
+        return stats(typeCache);
+    }
+
+    static <K, V> BoundedCache<K, V> newCache(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("negative capacity: " + maxEntries);
+        }
+        return maxEntries == 0 ? null : new BoundedCache<>(maxEntries);
+    }
+
+    static CacheStats stats(BoundedCache<?, ?> cache) {
+        return cache == null ? CacheStats.DISABLED : cache.stats();
     }
 
     /** If you don't need any {@code elementNames}, use {@link TypeFactory#create(String)}. */
@@ -103,13 +143,25 @@ public final class TypeFactory {
                 }
             } else {
                 ABIType<?> t = (flags & ABIType.FLAG_LEGACY_DECODE) != 0 ? UnitType.getLegacy(rawType) : UnitType.get(rawType);
-                return t != null ? t : tryParseFixed(rawType.toString());
+                return t != null ? applyFlags(t, flags) : tryParseFixed(rawType.toString());
             }
         } catch (IndexOutOfBoundsException ignored) { // e.g. type equals "" or "82]" or "[]" or "[1]"
         }
         throw unrecognizedType(rawType);
     }
 
+    private static ABIType<?> applyFlags(ABIType<?> t, int flags) {
+        if ((flags & ABIType.FLAG_INT256_LIMBS) != 0) {
+            if (t == UINT_256) return Uint256Type.INSTANCE;
+            if (t == INT_256) return Int256Type.INSTANCE;
+        }
+        if ((flags & ABIType.FLAG_BYTES_VIEW) != 0 && t instanceof ArrayType) { // base ArrayTypes are all byte arrays
+            final ArrayType<?, ?, ?> at = t.asArrayType();
+            return new ArrayType<>(at.canonicalType, BytesView.class, ByteType.INSTANCE, at.getLength(), BytesView[].class, at.getFlags() | ABIType.FLAG_BYTES_VIEW);
+        }
+        return t;
+    }
+
     private static IllegalArgumentException unrecognizedType(CharSequenceView rawType) {
         return unrecognizedType(rawType.toString());
     }
@@ -236,6 +288,8 @@ public final class TypeFactory {
                 }
                 if (e == null) {
                     e = buildUnchecked(rawType.subSequence(argStart, argEnd), null, null, flags);
+                } else {
+                    e = applyFlags(e, flags);
                 }
                 canonicalType.append(e.canonicalType);
                 dynamic |= e.dynamic;
@@ -0,0 +1,162 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import static com.esaulpaugh.headlong.abi.UnitType.UNIT_LENGTH_BYTES;
+
+/**
+ * An immutable unsigned 256-bit integer stored as four {@code long} words, most significant first. Produced in place of
+ * {@link BigInteger} for uint256 values by types created with {@link ABIType#FLAG_INT256_LIMBS}, so that encoding and
+ * decoding need not allocate anything other than the value itself.
+ *
+ * @see Int256
+ */
+public final class Uint256 extends Number implements Comparable<Uint256> {
+
+    private static final long serialVersionUID = 5520718049387264912L;
+
+    public static final Uint256 ZERO = new Uint256(0L, 0L, 0L, 0L);
+    public static final Uint256 ONE = new Uint256(0L, 0L, 0L, 1L);
+    public static final Uint256 MAX_VALUE = new Uint256(-1L, -1L, -1L, -1L);
+
+    final long a, b, c, d;
+
+    Uint256(long a, long b, long c, long d) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+    }
+
+    /**
+     * @param a the most significant 64 bits
+     * @param b the next 64 bits
+     * @param c the next 64 bits
+     * @param d the least significant 64 bits
+     * @return  the value
+     */
+    public static Uint256 of(long a, long b, long c, long d) {
+        return new Uint256(a, b, c, d);
+    }
+
+    public static Uint256 valueOf(long val) {
+        if (val < 0) {
+            throw new IllegalArgumentException("signed value given for unsigned type");
+        }
+        return new Uint256(0L, 0L, 0L, val);
+    }
+
+    public static Uint256 valueOf(BigInteger val) {
+        Uint256Type.INSTANCE.validateBigInt(val);
+        final ByteBuffer bb = wordsOf(val);
+        return new Uint256(bb.getLong(), bb.getLong(), bb.getLong(), bb.getLong());
+    }
+
+    /**
+     * Returns the 64-bit word at the given index, where index 0 is the most significant.
+     *
+     * @param index 0, 1, 2, or 3
+     * @return  the word
+     */
+    public long getWord(int index) {
+        switch (index) {
+        case 0: return a;
+        case 1: return b;
+        case 2: return c;
+        case 3: return d;
+        default: throw new IndexOutOfBoundsException("" + index);
+        }
+    }
+
+    public BigInteger toBigInteger() {
+        return toBigInteger(true, a, b, c, d);
+    }
+
+    public long longValueExact() {
+        if ((a | b | c) == 0L && d >= 0L) {
+            return d;
+        }
+        throw new ArithmeticException("out of long range");
+    }
+
+    @Override
+    public int intValue() {
+        return (int) d;
+    }
+
+    @Override
+    public long longValue() {
+        return d;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return (a | b | c) == 0L && d >= 0L ? d : toBigInteger().doubleValue();
+    }
+
+    @Override
+    public int compareTo(Uint256 o) {
+        int cmp = Long.compareUnsigned(a, o.a);
+        if (cmp != 0) return cmp;
+        cmp = Long.compareUnsigned(b, o.b);
+        if (cmp != 0) return cmp;
+        cmp = Long.compareUnsigned(c, o.c);
+        return cmp != 0 ? cmp : Long.compareUnsigned(d, o.d);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(a, b, c, d);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof Uint256)) return false;
+        final Uint256 other = (Uint256) o;
+        return other.d == this.d && other.c == this.c && other.b == this.b && other.a == this.a;
+    }
+
+    @Override
+    public String toString() {
+        return (a | b | c) == 0L ? Long.toUnsignedString(d) : toBigInteger().toString();
+    }
+
+    static int hash(long a, long b, long c, long d) {
+        return 31 * (31 * (31 * Long.hashCode(a) + Long.hashCode(b)) + Long.hashCode(c)) + Long.hashCode(d);
+    }
+
+    static ByteBuffer wordsOf(BigInteger val) {
+        final ByteBuffer bb = ByteBuffer.allocate(UNIT_LENGTH_BYTES);
+        ABIType.insertInt(val, UNIT_LENGTH_BYTES, bb);
+        bb.flip();
+        return bb;
+    }
+
+    static BigInteger toBigInteger(boolean unsigned, long a, long b, long c, long d) {
+        final byte[] bytes = new byte[UNIT_LENGTH_BYTES];
+        ByteBuffer.wrap(bytes).putLong(a).putLong(b).putLong(c).putLong(d);
+        return unsigned ? new BigInteger(1, bytes) : new BigInteger(bytes);
+    }
+}
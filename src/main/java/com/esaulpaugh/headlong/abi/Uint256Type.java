@@ -0,0 +1,69 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.nio.ByteBuffer;
+
+/** Represents uint256 when created with {@link ABIType#FLAG_INT256_LIMBS}. Values are {@link Uint256}s rather than {@link java.math.BigInteger}s. */
+public final class Uint256Type extends UnitType<Uint256> {
+
+    static final Uint256Type INSTANCE = new Uint256Type();
+
+    static {
+        UnitType.initInstances();
+    }
+
+    private Uint256Type() {
+        super("uint256", Uint256.class, UNIT_LENGTH_BITS, true);
+    }
+
+    @Override
+    Class<?> arrayClass() {
+        return Uint256[].class;
+    }
+
+    /** Distinguishes this type from the {@link java.math.BigInteger} type of the same canonical type under {@link #equals(Object)}. */
+    @Override
+    public int getFlags() {
+        return FLAG_INT256_LIMBS;
+    }
+
+    @Override
+    public int typeCode() {
+        return TYPE_CODE_UINT256;
+    }
+
+    @Override
+    int validateInternal(Uint256 value) {
+        // every Uint256 is a valid uint256
+        return UNIT_LENGTH_BYTES;
+    }
+
+    @Override
+    void encodeTail(Uint256 value, ByteBuffer dest) {
+        dest.putLong(value.a).putLong(value.b).putLong(value.c).putLong(value.d);
+    }
+
+    @Override
+    void encodePackedUnchecked(Uint256 value, ByteBuffer dest) {
+        encodeTail(value, dest);
+    }
+
+    @Override
+    Uint256 decode(ByteBuffer bb, byte[] unitBuffer) {
+        return new Uint256(bb.getLong(), bb.getLong(), bb.getLong(), bb.getLong());
+    }
+}
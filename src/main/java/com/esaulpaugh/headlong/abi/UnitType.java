@@ -35,8 +35,9 @@ public abstract class UnitType<J> extends ABIType<J> { // J generally extends Nu
     // - 3 which are only aliases to instances already counted (int, uint, decimal)
     // + 0 unique instances in LEGACY_BASE_TYPE_MAP
     // + 3 instances not in the maps (uint21, uint31, and ADDRESS_INNER)
+    // + 2 limb-backed instances (Uint256Type and Int256Type)
     // =
-    private static final long INSTANCE_LIMIT = 69L;
+    private static final long INSTANCE_LIMIT = 71L;
     private static final AtomicLong INSTANCE_COUNT = new AtomicLong(0L);
 
     static final int UNIT_LENGTH_BITS = 256;
@@ -48,6 +49,7 @@ public abstract class UnitType<J> extends ABIType<J> { // J generally extends Nu
     private final BigInteger max;
     final int bitLength;
     final boolean unsigned;
+    private final long mask0, mask1, mask2, mask3; // bits which must equal the sign bit (or be zero, if unsigned)
 
     UnitType(String canonicalType, Class<J> clazz, int bitLength, boolean unsigned) {
         super(canonicalType, clazz, false);
@@ -71,6 +73,15 @@ public abstract class UnitType<J> extends ABIType<J> { // J generally extends Nu
         }
         this.minLong = this.min.longValue();
         this.maxLong = this.max.longValue();
+        final int extBits = UNIT_LENGTH_BITS - bitLength + (unsigned ? 0 : 1);
+        this.mask0 = highBits(extBits);
+        this.mask1 = highBits(extBits - Long.SIZE);
+        this.mask2 = highBits(extBits - Long.SIZE * 2);
+        this.mask3 = highBits(extBits - Long.SIZE * 3);
+    }
+
+    private static long highBits(int n) {
+        return n <= 0 ? 0L : n >= Long.SIZE ? -1L : -1L << (Long.SIZE - n);
     }
 
     public final int getBitLength() {
@@ -148,6 +159,15 @@ public abstract class UnitType<J> extends ABIType<J> { // J generally extends Nu
         throw err(bb);
     }
 
+    @Override
+    void scan(ByteBuffer bb) {
+        final long a = bb.getLong(), b = bb.getLong(), c = bb.getLong(), d = bb.getLong();
+        final long ext = unsigned ? 0L : a >> (Long.SIZE - 1);
+        if ((((a ^ ext) & mask0) | ((b ^ ext) & mask1) | ((c ^ ext) & mask2) | ((d ^ ext) & mask3)) != 0L) {
+            throw err(bb);
+        }
+    }
+
     final IllegalArgumentException err(ByteBuffer bb) {
         bb.position(bb.position() - UNIT_LENGTH_BYTES);
         decodeValid(bb, ABIType.newUnitBuffer());
@@ -259,6 +279,10 @@ public abstract class UnitType<J> extends ABIType<J> { // J generally extends Nu
 
             map("address", AddressType.INSTANCE);
 
+            if (Uint256Type.INSTANCE == null || Int256Type.INSTANCE == null) { // initialize the unmapped limb-backed types
+                throw new AssertionError();
+            }
+
             map("fixed128x18", new BigDecimalType("fixed128x18", 128, 18, false, BigDecimalType.CODE));
             map("ufixed128x18", new BigDecimalType("ufixed128x18", 128, 18, true, BigDecimalType.CODE));
 
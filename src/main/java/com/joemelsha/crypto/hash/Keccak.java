@@ -1,5 +1,6 @@
 package com.joemelsha.crypto.hash;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.security.MessageDigest;
@@ -86,7 +87,71 @@ public final class Keccak extends MessageDigest {
 
     @Override
     protected void engineUpdate(byte[] input, int offset, int len) {
-        engineUpdate(ByteBuffer.wrap(input, offset, len));
+
+        if (len <= 0) {
+            return;
+        }
+
+        int rateBits = this.rateBits;
+        if ((rateBits & 0b111) != 0) {
+            throw new IllegalStateException("Cannot update while in bit mode");
+        }
+
+        final long[] state = this.state;
+        final int end = offset + len;
+        int rateBytes = rateBits >>> 3;
+
+        int shift = (rateBytes & 0b111) << 3;
+        if (shift > 0) {
+            // complete the partially absorbed word
+            long w = 0L;
+            do {
+                w |= (input[offset++] & 0xFFL) << shift;
+                shift += Byte.SIZE;
+                rateBytes++;
+            } while (shift < Long.SIZE && offset < end);
+            state[(rateBytes - 1) >>> 3] ^= w;
+            if (offset == end) {
+                this.rateBits = rateBytes << 3;
+                return;
+            }
+        }
+
+        int rateWords = rateBytes >>> 3;
+        while (end - offset >= Long.BYTES) {
+            if (rateWords >= rateSizeWords) {
+                keccak(state);
+                rateWords = 0;
+            }
+            int c = rateSizeWords - rateWords;
+            final int inWords = (end - offset) >>> 3;
+            if (c > inWords)
+                c = inWords;
+            c += rateWords;
+            do {
+                state[rateWords++] ^= getLongLE(input, offset);
+                offset += Long.BYTES;
+            } while (rateWords < c);
+        }
+
+        if (rateWords >= rateSizeWords) {
+            keccak(state);
+            rateWords = 0;
+        }
+
+        rateBytes = rateWords << 3;
+        if (offset < end) {
+            // fewer than 8 bytes remain
+            long w = 0L;
+            shift = 0;
+            do {
+                w |= (input[offset++] & 0xFFL) << shift;
+                shift += Byte.SIZE;
+                rateBytes++;
+            } while (offset < end);
+            state[rateWords] ^= w;
+        }
+        this.rateBits = rateBytes << 3;
     }
 
     @Override
@@ -97,6 +162,13 @@ public final class Keccak extends MessageDigest {
             return;
         }
 
+        if (in.hasArray()) {
+            final int pos = in.position();
+            engineUpdate(in.array(), in.arrayOffset() + pos, remaining);
+            in.position(pos + remaining);
+            return;
+        }
+
         int rateBits = this.rateBits;
         if ((rateBits & 0b111) != 0) {
             throw new IllegalStateException("Cannot update while in bit mode");
@@ -185,6 +257,51 @@ public final class Keccak extends MessageDigest {
         out.put(engineDigest(), 0, Math.min(engineGetDigestLength(), out.remaining()));
     }
 
+    /**
+     * Copies the absorbed state of this instance into {@code dest}, which must have the same digest length. Allows a
+     * shared prefix to be absorbed once and then forked for each suffix without re-absorbing it. Allocates nothing.
+     */
+    public void copyInto(Keccak dest) {
+        if (dest.digestSizeBytes != this.digestSizeBytes) {
+            throw new IllegalArgumentException("digest length mismatch: " + dest.digestSizeBytes + " != " + this.digestSizeBytes);
+        }
+        System.arraycopy(this.state, 0, dest.state, 0, this.state.length);
+        dest.rateBits = this.rateBits;
+    }
+
+    /**
+     * Returns a copy of the absorbed state which can later be passed to {@link #restore(long[])} on any instance with
+     * the same digest length. The last two elements are the absorbed bit count within the current block and the digest
+     * length in bytes.
+     */
+    public long[] snapshot() {
+        final long[] snapshot = Arrays.copyOf(state, state.length + 2);
+        snapshot[state.length] = rateBits;
+        snapshot[state.length + 1] = digestSizeBytes;
+        return snapshot;
+    }
+
+    /**
+     * Replaces the absorbed state of this instance with that captured by {@link #snapshot()}. Allocates nothing.
+     *
+     * @throws IllegalArgumentException if the snapshot was taken from an instance of a different digest length or is malformed
+     */
+    public void restore(long[] snapshot) {
+        if (snapshot.length != state.length + 2) {
+            throw new IllegalArgumentException("bad snapshot length: " + snapshot.length + " != " + (state.length + 2));
+        }
+        final long digestSizeBytes = snapshot[state.length + 1];
+        if (digestSizeBytes != this.digestSizeBytes) {
+            throw new IllegalArgumentException("digest length mismatch: " + this.digestSizeBytes + " != " + digestSizeBytes);
+        }
+        final long rateBits = snapshot[state.length];
+        if (rateBits < 0 || rateBits > rateSizeBits || (rateBits & 0b111) != 0) {
+            throw new IllegalArgumentException("bad snapshot rateBits: " + rateBits);
+        }
+        System.arraycopy(snapshot, 0, state, 0, state.length);
+        this.rateBits = (int) rateBits;
+    }
+
     @Override
     protected int engineDigest(byte[] buf, int offset, int len) {
         System.arraycopy(engineDigest(), 0, buf, offset, len);
@@ -279,6 +396,119 @@ public final class Keccak extends MessageDigest {
         this.rateBits = rateBits + inBits;
     }
 
+    private static final int KECCAK_256_RATE_WORDS = 1088 / Long.SIZE;
+    private static final int KECCAK_256_DIGEST_BYTES = 256 / Byte.SIZE;
+
+    private static final ThreadLocal<long[]> LOCAL_STATE = ThreadLocal.withInitial(() -> new long[MAX_STATE_SIZE / Long.SIZE]);
+
+    /**
+     * Computes the Keccak-256 hash of {@code len} bytes of {@code in} starting at {@code off} and writes the 32-byte
+     * digest to {@code out} at {@code outOff}. Allocates nothing; the sponge state is reused per thread.
+     */
+    public static void keccak256(byte[] in, int off, int len, byte[] out, int outOff) {
+        keccak256(in, off, len, out, outOff, KECCAK_256_DIGEST_BYTES);
+    }
+
+    /**
+     * As {@link #keccak256(byte[], int, int, byte[], int)} but writes only the first {@code outLen} bytes of the digest,
+     * e.g. four for a function selector.
+     */
+    public static void keccak256(byte[] in, int off, int len, byte[] out, int outOff, int outLen) {
+        checkRange(in.length, off, len);
+        checkRange(out.length, outOff, outLen);
+        if (outLen > KECCAK_256_DIGEST_BYTES) {
+            throw new IllegalArgumentException("outLen exceeds digest length: " + outLen + " > " + KECCAK_256_DIGEST_BYTES);
+        }
+        final long[] a = LOCAL_STATE.get();
+        Arrays.fill(a, 0L);
+        final int end = off + len;
+        while (end - off >= KECCAK_256_RATE_WORDS * Long.BYTES) {
+            for (int i = 0; i < KECCAK_256_RATE_WORDS; i++, off += Long.BYTES) {
+                a[i] ^= getLongLE(in, off);
+            }
+            keccak(a);
+        }
+        int i = 0;
+        for ( ; end - off >= Long.BYTES; i++, off += Long.BYTES) {
+            a[i] ^= getLongLE(in, off);
+        }
+        long w = 0L;
+        int shift = 0;
+        for ( ; off < end; off++, shift += Byte.SIZE) {
+            w |= (in[off] & 0xFFL) << shift;
+        }
+        padAndPermute(a, i, w, shift);
+        for (int j = 0; j < outLen; j++) {
+            out[outOff + j] = (byte) (a[j >>> 3] >>> ((j & 0b111) << 3));
+        }
+    }
+
+    /**
+     * Computes the Keccak-256 hash of the remaining bytes of {@code in} and puts the 32-byte digest into {@code out}.
+     * Advances the position of both buffers. Allocates nothing; the sponge state is reused per thread.
+     *
+     * @throws java.nio.BufferOverflowException if fewer than 32 bytes remain in {@code out}
+     */
+    public static void keccak256(ByteBuffer in, ByteBuffer out) {
+        if (out.remaining() < KECCAK_256_DIGEST_BYTES) {
+            throw new BufferOverflowException();
+        }
+        final long[] a = LOCAL_STATE.get();
+        Arrays.fill(a, 0L);
+        final ByteOrder inOrder = in.order();
+        final ByteOrder outOrder = out.order();
+        try {
+            in.order(ByteOrder.LITTLE_ENDIAN);
+            while (in.remaining() >= KECCAK_256_RATE_WORDS * Long.BYTES) {
+                for (int i = 0; i < KECCAK_256_RATE_WORDS; i++) {
+                    a[i] ^= in.getLong();
+                }
+                keccak(a);
+            }
+            int i = 0;
+            for ( ; in.remaining() >= Long.BYTES; i++) {
+                a[i] ^= in.getLong();
+            }
+            long w = 0L;
+            int shift = 0;
+            for ( ; in.hasRemaining(); shift += Byte.SIZE) {
+                w |= (in.get() & 0xFFL) << shift;
+            }
+            padAndPermute(a, i, w, shift);
+            out.order(ByteOrder.LITTLE_ENDIAN);
+            for (int j = 0; j < KECCAK_256_DIGEST_BYTES / Long.BYTES; j++) {
+                out.putLong(a[j]);
+            }
+        } finally {
+            in.order(inOrder);
+            out.order(outOrder);
+        }
+    }
+
+    /* absorbs the final partial word w (shift bits long) at word index i, applies Keccak padding and permutes */
+    private static void padAndPermute(long[] a, int i, long w, int shift) {
+        a[i] ^= w | (0x1L << shift); // fewer than 8 bytes remain, so shift <= 56
+        a[KECCAK_256_RATE_WORDS - 1] ^= 0x8000000000000000L;
+        keccak(a);
+    }
+
+    private static long getLongLE(byte[] b, int off) {
+        return (b[off] & 0xFFL)
+                | (b[off + 1] & 0xFFL) << 8
+                | (b[off + 2] & 0xFFL) << 16
+                | (b[off + 3] & 0xFFL) << 24
+                | (b[off + 4] & 0xFFL) << 32
+                | (b[off + 5] & 0xFFL) << 40
+                | (b[off + 6] & 0xFFL) << 48
+                | (long) b[off + 7] << 56;
+    }
+
+    private static void checkRange(int arrayLen, int off, int len) {
+        if ((off | len | (arrayLen - off - len)) < 0) {
+            throw new IndexOutOfBoundsException("off=" + off + ", len=" + len + ", array length=" + arrayLen);
+        }
+    }
+
     private static void keccak(long[] a) {
         int c, i;
         long x, a_10_;
@@ -32,10 +32,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.Spliterator;
@@ -1323,4 +1325,92 @@ public class ABIJSONTest {
         assertThrown(IllegalStateException.class, "duplicate field: indexed", () -> Event.fromJson("{\"type\":\"event\",\"name\":\"x\",\"inputs\":[{\"indexed\":true,\"indexed\":false,\"type\":\"bool\"}]}"));
         assertThrown(IllegalStateException.class, "duplicate field: indexed", () -> Event.fromJson("{\"type\":\"event\",\"name\":\"x\",\"inputs\":[{\"indexed\":true,\"indexed\":true,\"type\":\"bool\"}]}"));
     }
+
+    @Test
+    public void testParseLazy() throws Throwable {
+        final String json = mixedJson();
+        final List<ABIObject> eager = new ABIParser().parse(json);
+        final List<LazyABIObject> lazy = new ABIParser().parseLazy(json);
+        assertEquals(eager.size(), lazy.size());
+        for (int i = 0; i < eager.size(); i++) {
+            final ABIObject e = eager.get(i);
+            final LazyABIObject l = lazy.get(i);
+            assertEquals(e.getType(), l.getType());
+            assertEquals(e.getName(), l.getName());
+            if (e.getType() == TypeEnum.FUNCTION) {
+                assertArrayEquals(e.asFunction().selector(), l.selector(), e.getCanonicalSignature());
+            } else {
+                assertNull(l.selector());
+            }
+            assertFalse(l.isBuilt());
+            final ABIObject built = l.get();
+            assertTrue(l.isBuilt());
+            assertEquals(e, built);
+            assertSame(built, l.get());
+        }
+        assertEquals("untyped(uint256,int256[2][],function)", lazy.get(lazy.size() - 1).get().getCanonicalSignature());
+
+        final List<LazyABIObject> events = new ABIParser(ABIJSON.EVENTS).parseLazy(json);
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).get().isEvent());
+
+        final ABITypeInterner interner = new ABITypeInterner();
+        final List<LazyABIObject> interned = new ABIParser(FLAGS_NONE, null, interner).parseLazy(json);
+        assertSame(interned.get(1).get().getInputs().get(0), interner.intern(eager.get(1).getInputs().get(0)));
+
+        final LazyABIObject bad = new ABIParser().parseLazy("[{\"name\":\"f\",\"inputs\":[{\"type\":\"uint7\"}]}]").get(0);
+        assertThrown(IllegalArgumentException.class, "unrecognized type: \"uint7\"", bad::selector);
+        assertThrown(IllegalArgumentException.class, "unrecognized type: \"uint7\"", bad::get);
+        assertEquals(0, new ABIParser().parseLazy(" [ ] ").size());
+        assertEquals("{\"s\":\"}]\\\"{\",\"name\":\"g\"}", new ABIParser().parseLazy("[{\"s\":\"}]\\\"{\",\"name\":\"g\"}]").get(0).getJson());
+        assertThrown(IllegalArgumentException.class, "expected JSON array", () -> new ABIParser().parseLazy("{}"));
+        assertThrown(IllegalArgumentException.class, "unterminated JSON object at index 1", () -> new ABIParser().parseLazy("[{\"name\":\"f\""));
+        assertThrown(IllegalStateException.class, () -> new ABIParser().parseLazy("[{\"name\":\"f\"]"));
+        assertThrown(IllegalArgumentException.class, "expected ',' or ']' at index 14", () -> new ABIParser().parseLazy("[{\"name\":\"f\"} {}]"));
+        assertThrown(IllegalArgumentException.class, "trailing characters at index 15", () -> new ABIParser().parseLazy("[{\"name\":\"f\"}] x"));
+    }
+
+    private static String mixedJson() {
+        return "[" + FUNCTION_A_JSON + "," + FUNCTION_B_JSON + "," + CONTRACT_JSON.substring(1, CONTRACT_JSON.length() - 1) + ","
+                + FALLBACK_CONSTRUCTOR_RECEIVE.substring(1, FALLBACK_CONSTRUCTOR_RECEIVE.length() - 1) + "," + ERROR_JSON
+                + ",{\"name\":\"untyped\",\"inputs\":[{\"type\":\"uint\"},{\"type\":\"int[2][]\"},{\"type\":\"function\"}],\"extra\":{\"n\":[1.5e3,null,true]}}]";
+    }
+
+    @Test
+    public void testFilters() throws Throwable {
+        final String json = mixedJson();
+        final List<ABIObject> all = new ABIParser().parse(json);
+        final Function untyped = Function.parse("untyped(uint,int[2][],function)");
+
+        final ABIParser byName = new ABIParser().withNameFilter(n -> "foo".equals(n) || "InsufficientBalance".equals(n));
+        final List<ABIObject> named = byName.parse(json);
+        assertEquals(2, named.size());
+        assertEquals("foo", named.get(0).getName());
+        assertTrue(named.get(1).isContractError());
+        assertEquals(named, byName.stream(json).collect(Collectors.toList()));
+        assertEquals(named.size(), byName.parseLazy(json).size());
+
+        final List<ABIObject> unnamed = new ABIParser().withNameFilter(Objects::isNull).parse(json);
+        assertEquals(all.stream().filter(e -> e.getName() == null).collect(Collectors.toList()), unnamed);
+        assertFalse(unnamed.isEmpty());
+
+        final ABIParser bySelector = new ABIParser().withSelectorFilter(s -> Arrays.equals(s, untyped.selector()));
+        final List<ABIObject> selected = bySelector.parse(json);
+        final List<ABIObject> expected = all.stream()
+                .filter(e -> !e.isFunction() || e.getName() == null || Arrays.equals(e.asFunction().selector(), untyped.selector()))
+                .collect(Collectors.toList());
+        assertEquals(expected, selected);
+        assertTrue(selected.contains(untyped));
+        assertEquals(expected.size(), bySelector.parseLazy(json).size());
+
+        final List<Function> only = new ABIParser(ABIJSON.FUNCTIONS).withSelectorFilter(s -> Arrays.equals(s, untyped.selector())).parse(json);
+        assertEquals(Collections.singletonList(untyped), only.stream().filter(f -> f.getName() != null).collect(Collectors.toList()));
+        assertEquals(0, new ABIParser().withNameFilter(n -> false).parse(json).size());
+        assertEquals(new ABIParser(), new ABIParser().withNameFilter(null).withSelectorFilter(null));
+
+        assertThrown(IllegalArgumentException.class, "unrecognized type: \"uint7\"",
+                () -> bySelector.parse("[{\"name\":\"f\",\"inputs\":[{\"type\":\"uint7\"}]}]"));
+        assertThrown(IllegalStateException.class, "duplicate field: name",
+                () -> bySelector.parse("[{\"name\":\"untyped\",\"inputs\":[{\"type\":\"uint\"},{\"type\":\"int[2][]\"},{\"type\":\"function\"}],\"name\":\"untyped\"}]"));
+    }
 }
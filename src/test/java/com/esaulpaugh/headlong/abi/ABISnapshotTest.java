@@ -0,0 +1,100 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ABISnapshotTest {
+
+    private static final String ABI = "[" +
+            "{\"type\":\"function\",\"name\":\"transfer\",\"inputs\":[{\"name\":\"to\",\"type\":\"address\",\"internalType\":\"address payable\"},{\"name\":\"value\",\"type\":\"uint\"}],\"outputs\":[{\"type\":\"bool\"}],\"stateMutability\":\"nonpayable\"}," +
+            "{\"type\":\"function\",\"name\":\"batch\",\"inputs\":[{\"name\":\"xs\",\"type\":\"tuple[2][]\",\"components\":[{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"p\",\"type\":\"tuple\",\"components\":[{\"name\":\"f\",\"type\":\"fixed128x18[]\"}]}]},{\"name\":\"s\",\"type\":\"string\"}],\"outputs\":[]}," +
+            "{\"type\":\"constructor\",\"inputs\":[{\"name\":\"owner\",\"type\":\"address\"}],\"stateMutability\":\"payable\"}," +
+            "{\"type\":\"fallback\",\"stateMutability\":\"payable\"}," +
+            "{\"type\":\"receive\",\"stateMutability\":\"payable\"}," +
+            "{\"type\":\"event\",\"name\":\"Transfer\",\"inputs\":[{\"indexed\":true,\"name\":\"to\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"value\",\"type\":\"uint256\"}]}," +
+            "{\"type\":\"event\",\"name\":\"Anon\",\"anonymous\":true,\"inputs\":[{\"indexed\":false,\"name\":\"ā\",\"type\":\"bytes32\"}]}," +
+            "{\"type\":\"error\",\"name\":\"Insufficient\",\"inputs\":[{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"value\",\"type\":\"uint256\"}]}" +
+            "]";
+
+    @Test
+    public void testRoundTrip() throws Throwable {
+        for (int flags : new int[] { ABIType.FLAGS_NONE, ABIType.FLAG_LEGACY_DECODE }) {
+            final List<ABIObject> parsed = new ABIParser(flags).parse(ABI);
+            final byte[] snapshot = ABISnapshot.write(parsed);
+            final List<ABIObject> loaded = ABISnapshot.read(snapshot);
+            assertEquals(parsed, loaded);
+            for (int i = 0; i < parsed.size(); i++) {
+                final ABIObject p = parsed.get(i);
+                final ABIObject l = loaded.get(i);
+                assertEquals(p.toJson(false), l.toJson(false));
+                assertEquals(flags, l.getInputs().getFlags());
+                if (p.isFunction()) {
+                    assertArrayEquals(p.asFunction().selector(), l.asFunction().selector());
+                    assertEquals(p.asFunction().getOutputs().getFlags(), l.asFunction().getOutputs().getFlags());
+                } else if (p.isEvent()) {
+                    assertArrayEquals(p.asEvent().signatureHash(), l.asEvent().signatureHash());
+                    assertArrayEquals(p.asEvent().getIndexManifest(), l.asEvent().getIndexManifest());
+                }
+            }
+            assertSame(loaded.get(0).getInputs().get(0), loaded.get(5).getInputs().get(0));
+            assertEquals("((address,(fixed128x18[]))[2][],string)", loaded.get(1).getInputs().canonicalType);
+            assertEquals(0, ABISnapshot.read(ABISnapshot.write(Arrays.asList())).size());
+        }
+    }
+
+    @Test
+    public void testMap() throws Throwable {
+        final List<ABIObject> parsed = new ABIParser().parse(ABI);
+        final Path file = Files.createTempFile("abi", ".snapshot");
+        try {
+            Files.write(file, ABISnapshot.write(parsed));
+            assertEquals(parsed, ABISnapshot.map(file));
+        } finally {
+            Files.delete(file);
+        }
+        final byte[] snapshot = ABISnapshot.write(parsed);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(snapshot.length + 3);
+        direct.put(new byte[3]).put(snapshot).position(3);
+        assertEquals(parsed, ABISnapshot.read(direct));
+        assertEquals(3, direct.position());
+    }
+
+    @Test
+    public void testMalformed() throws Throwable {
+        final byte[] snapshot = ABISnapshot.write(new ABIParser().parse(ABI));
+        assertThrown(IllegalArgumentException.class, "not a snapshot", () -> ABISnapshot.read(new byte[] { 0, 0, 0, 0, 1 }));
+        final byte[] version = snapshot.clone();
+        version[4] = 9;
+        assertThrown(IllegalArgumentException.class, "unsupported snapshot version: 9", () -> ABISnapshot.read(version));
+        assertThrown(IllegalArgumentException.class, "truncated snapshot", () -> ABISnapshot.read(Arrays.copyOf(snapshot, snapshot.length - 1)));
+        assertThrown(IllegalArgumentException.class, "trailing bytes: 1", () -> ABISnapshot.read(Arrays.copyOf(snapshot, snapshot.length + 1)));
+        final byte[] count = snapshot.clone();
+        count[5] = 0x7f;
+        assertThrown(IllegalArgumentException.class, "bad count: " + (0x7f000000 | snapshot[8] & 0xff), () -> ABISnapshot.read(count));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ABITypeInternerTest {
+
+    private static final String ABI = "[" +
+            "{\"type\":\"function\",\"name\":\"transfer\",\"inputs\":[{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"value\",\"type\":\"uint256\"}],\"outputs\":[{\"type\":\"bool\"}]}," +
+            "{\"type\":\"function\",\"name\":\"mint\",\"inputs\":[{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"value\",\"type\":\"uint256\"}],\"outputs\":[{\"type\":\"bool\"}]}," +
+            "{\"type\":\"function\",\"name\":\"approve\",\"inputs\":[{\"name\":\"spender\",\"type\":\"address\"},{\"name\":\"value\",\"type\":\"uint256\"}],\"outputs\":[{\"type\":\"bool\"}]}," +
+            "{\"type\":\"function\",\"name\":\"batch\",\"inputs\":[{\"name\":\"xs\",\"type\":\"tuple[]\",\"components\":[{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"value\",\"type\":\"uint256\"}]}]}," +
+            "{\"type\":\"event\",\"name\":\"Transfer\",\"inputs\":[{\"indexed\":true,\"name\":\"to\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"value\",\"type\":\"uint256\"}]}," +
+            "{\"type\":\"error\",\"name\":\"Insufficient\",\"inputs\":[{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"value\",\"type\":\"uint256\"}]}" +
+            "]";
+
+    @Test
+    public void testSharing() {
+        final ABITypeInterner interner = new ABITypeInterner();
+        final List<ABIObject> plain = new ABIParser().parse(ABI);
+        final List<ABIObject> objects = new ABIParser(ABIType.FLAGS_NONE, null, interner).parse(ABI);
+        assertEquals(plain, objects);
+
+        final Function transfer = objects.get(0).asFunction();
+        final Function mint = objects.get(1).asFunction();
+        final Function approve = objects.get(2).asFunction();
+        final Function batch = objects.get(3).asFunction();
+        assertSame(transfer.getInputs(), mint.getInputs());
+        assertSame(transfer.getOutputs(), approve.getOutputs());
+        assertNotSame(transfer.getInputs(), approve.getInputs()); // element names differ
+        assertEquals(transfer.getInputs(), approve.getInputs());
+        assertSame(transfer.getInputs().getCanonicalType(), approve.getInputs().getCanonicalType());
+        assertSame(transfer.getInputs().get(0), approve.getInputs().get(0));
+        final ArrayType<TupleType<Tuple>, Tuple, Tuple[]> xs = batch.getInputs().get(0);
+        assertSame(transfer.getInputs(), xs.getElementType());
+        assertArrayEquals(plain.get(0).asFunction().selector(), transfer.selector());
+
+        assertNotSame(transfer.getInputs(), objects.get(4).asEvent().getInputs()); // indexed flags differ
+        assertSame(transfer.getInputs(), objects.get(5).getInputs());
+
+        final int size = interner.size();
+        assertSame(transfer, interner.intern(transfer));
+        assertSame(transfer.getInputs(), interner.intern(TypeFactory.createTupleTypeWithNames("(address,uint256)", "to", "value")));
+        assertSame(xs, interner.intern(batch.getInputs().get(0)));
+        assertEquals(size, interner.size());
+
+        final Tuple args = Tuple.of(Address.wrap("0x82095CAfeBaBECaFebaBe00083Ce15d74e191051"), BigInteger.TEN);
+        assertEquals(args, mint.decodeCall(mint.encodeCall(args)));
+        assertEquals(args, transfer.getInputs().decode(plain.get(0).asFunction().getInputs().encode(args)));
+    }
+
+    @Test
+    public void testFlagsDistinct() {
+        final ABITypeInterner interner = new ABITypeInterner();
+        final TupleType<?> a = interner.intern(TupleType.parse("(bytes,uint8[2])"));
+        final TupleType<?> b = interner.intern(TupleType.parse(ABIType.FLAG_LEGACY_DECODE, "(bytes,uint8[2])"));
+        assertNotSame(a, b);
+        assertEquals(ABIType.FLAG_LEGACY_DECODE, b.getFlags());
+        assertSame(a, interner.intern(TypeFactory.create("(bytes,uint8[2])")));
+        assertSame(a.get(1), interner.intern(TypeFactory.create("uint8[2]")));
+    }
+
+    @Test
+    public void testLimbsDistinct() {
+        final ABITypeInterner interner = new ABITypeInterner();
+        assertTrue(interner.intern(TypeFactory.create(ABIType.FLAGS_NONE, "uint256")) instanceof BigIntegerType);
+        assertSame(Uint256Type.INSTANCE, interner.intern(TypeFactory.create(ABIType.FLAG_INT256_LIMBS, "uint256")));
+
+        final TupleType<?> plain = interner.intern(TupleType.parse("(uint256,address)"));
+        final TupleType<Tuple> limbs = interner.intern(TupleType.parse(ABIType.FLAG_INT256_LIMBS, "(uint256,address)"));
+        assertNotSame(plain, limbs);
+        assertSame(Uint256Type.INSTANCE, limbs.get(0));
+        assertSame(plain.get(1), limbs.get(1));
+        final Tuple args = Tuple.of(Uint256.valueOf(7L), Address.wrap("0x0000000000000000000000000000000000000001"));
+        assertEquals(args, limbs.decode(limbs.encode(args)));
+
+        final ArrayType<?, ?, ?> plainArr = interner.intern(TypeFactory.create("int256[]"));
+        final ArrayType<?, ?, ?> limbsArr = interner.intern(TypeFactory.create(ABIType.FLAG_INT256_LIMBS, "int256[]"));
+        assertNotSame(plainArr, limbsArr);
+        assertSame(Int256Type.INSTANCE, limbsArr.getElementType());
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
@@ -30,6 +31,7 @@ import static com.esaulpaugh.headlong.TestUtils.assertThrown;
 import static com.esaulpaugh.headlong.abi.Address.ADDRESS_BIT_LEN;
 import static com.esaulpaugh.headlong.abi.Address.MAX_LABEL_LEN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AddressTest {
@@ -306,4 +308,61 @@ public class AddressTest {
                 () -> Address.wrap("0x0000000000000000000000000000000000000000", "0123456789012345678901234567890123456"));
         assertEquals(36, MAX_LABEL_LEN);
     }
+
+    @Test
+    public void testPrimitiveRepresentation() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final AddressType type = TypeFactory.create("address");
+        for (int i = 0; i < 500; i++) {
+            final BigInteger val = new BigInteger(1 + r.nextInt(ADDRESS_BIT_LEN), r);
+            final Address fromValue = new Address(val);
+            final byte[] encoded = type.encode(fromValue).array();
+            final Address decoded = type.decode(encoded);
+            assertEquals(fromValue, decoded);
+            assertEquals(fromValue.hashCode(), decoded.hashCode());
+            assertEquals(val, decoded.value());
+            assertSame(decoded.value(), decoded.value());
+            assertEquals(Address.toChecksumAddress(val), decoded.toString());
+            assertEquals(decoded, Address.wrap(decoded.toString()));
+            assertEquals(decoded, type.decodePacked(Arrays.copyOfRange(encoded, 12, 32)));
+        }
+        assertThrown(IllegalArgumentException.class, "unsigned val exceeds bit limit: 161 > 160", () -> new Address(BigInteger.ONE.shiftLeft(160)));
+        assertThrown(IllegalArgumentException.class, "signed value given for unsigned type", () -> new Address(BigInteger.ONE.negate()));
+
+        final byte[] encoded = new byte[32];
+        encoded[11] = 1;
+        assertThrown(IllegalArgumentException.class, "unsigned val exceeds bit limit: 161 > 160", () -> type.decode(encoded));
+        encoded[11] = 0;
+        encoded[12] = (byte) 0x80;
+        assertEquals("0x8000000000000000000000000000000000000000", type.decode(encoded).toString());
+    }
+
+    @Test
+    public void testChecksumCacheAndBatch() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final Address[] addresses = new Address[300];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = new Address(new BigInteger(ADDRESS_BIT_LEN, r));
+        }
+        final String[] batch = Address.toChecksumAddresses(addresses);
+        for (int i = 0; i < addresses.length; i++) {
+            assertEquals(Address.toChecksumAddress(addresses[i].value()), batch[i]);
+        }
+        assertEquals(0, Address.toChecksumAddresses().length);
+        assertThrown(IllegalArgumentException.class, "negative capacity: -1", () -> Address.setChecksumCacheCapacity(-1));
+        try {
+            Address.setChecksumCacheCapacity(64);
+            for (int pass = 0; pass < 3; pass++) {
+                for (int i = 0; i < addresses.length; i++) {
+                    assertEquals(batch[i], addresses[i].toString());
+                }
+            }
+            final String first = addresses[0].toString();
+            assertSame(first, addresses[0].toString());
+            assertSame(first, new Address(addresses[0].value()).toString());
+            Arrays.stream(addresses).parallel().forEach(a -> assertEquals(Address.toChecksumAddress(a.value()), a.toString()));
+        } finally {
+            Address.setChecksumCacheCapacity(0);
+        }
+    }
 }
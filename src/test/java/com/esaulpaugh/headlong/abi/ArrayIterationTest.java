@@ -0,0 +1,102 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ArrayIterationTest {
+
+    @Test
+    public void testParallelStream() {
+        final Random r = TestUtils.seededRandom();
+        final ArrayType<TupleType<Tuple>, Tuple, Tuple[]> type = TypeFactory.create("(address,uint256)[]");
+        final Tuple[] expected = new Tuple[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = Tuple.of(Address.wrap(Address.toChecksumAddress(TestUtils.wildBigInteger(r, true, 160))), BigInteger.valueOf(i));
+        }
+        final ByteBuffer bb = type.encode(expected);
+        final Spliterator<Tuple> spliterator = type.spliterator(bb);
+        assertEquals(1000L, spliterator.getExactSizeIfKnown());
+        final List<Tuple> list = StreamSupport.stream(spliterator, true).collect(Collectors.toList());
+        assertArrayEquals(expected, list.toArray());
+        assertEquals(0, bb.position());
+
+        final Spliterator<Tuple> s = type.spliterator(bb);
+        final Spliterator<Tuple> prefix = s.trySplit();
+        assertEquals(500L, prefix.estimateSize());
+        assertEquals(500L, s.estimateSize());
+        s.tryAdvance(t -> assertEquals(expected[500], t));
+    }
+
+    @Test
+    public void testIterate() {
+        final ArrayType<ArrayType<IntType, Integer, int[]>, int[], int[][]> statics = TypeFactory.create("int8[2][3]");
+        final int[][] ints = new int[][] { { 1, 2 }, { -3, 4 }, { 5, -6 } };
+        final Iterator<int[]> iter = statics.iterate(statics.encode(ints));
+        for (int[] e : ints) {
+            assertArrayEquals(e, iter.next());
+        }
+        assertFalse(iter.hasNext());
+
+        final ArrayType<ArrayType<ByteType, Byte, String>, String, String[]> strings = TypeFactory.create("string[]");
+        final String[] strs = new String[] { "one", "", "three" };
+        final List<String> out = new ArrayList<>();
+        strings.iterate(strings.encode(strs)).forEachRemaining(out::add);
+        assertArrayEquals(strs, out.toArray());
+
+        final ArrayType<ArrayType<ByteType, Byte, byte[]>, byte[], byte[][]> legacy = TypeFactory.create(ABIType.FLAG_LEGACY_DECODE, "bytes15[]");
+        final byte[] encoded = TypeFactory.<ArrayType<ArrayType<ByteType, Byte, byte[]>, byte[], byte[][]>>create("bytes15[]").encode(new byte[][] { new byte[15], new byte[15] }).array();
+        encoded[32 + 15] = 7;
+        final Spliterator<byte[]> s = legacy.spliterator(ByteBuffer.wrap(encoded));
+        assertNull(s.trySplit());
+        final byte[][] decoded = legacy.decode(ByteBuffer.wrap(encoded));
+        s.tryAdvance(e -> assertArrayEquals(decoded[0], e));
+        s.tryAdvance(e -> assertArrayEquals(decoded[1], e));
+        assertEquals(7, decoded[1][0]);
+    }
+
+    @Test
+    public void testErrors() throws Throwable {
+        final ArrayType<?, ?, ?> bytes = TypeFactory.create("bytes");
+        assertThrown(IllegalArgumentException.class, "can't iterate over bytes", () -> bytes.spliterator(ByteBuffer.allocate(32)));
+
+        final ArrayType<BooleanType, Boolean, boolean[]> bools = TypeFactory.create("bool[]");
+        final byte[] encoded = bools.encode(new boolean[] { true, false, true }).array();
+        assertThrown(IllegalArgumentException.class, "not enough bytes remaining: 95 < 96", () -> bools.spliterator(ByteBuffer.wrap(encoded, 0, 127)));
+        encoded[encoded.length - 1] = 3;
+        final Iterator<Boolean> iter = bools.iterate(ByteBuffer.wrap(encoded));
+        iter.next();
+        iter.next();
+        assertThrown(IllegalArgumentException.class, "array index 2: unsigned val exceeds bit limit: 2 > 1", iter::next);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.TestUtils;
+import com.esaulpaugh.headlong.util.Strings;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BytesViewTest {
+
+    private static final String SIGNATURE = "foo(bytes,string,bytes4,string[],(bytes32,bytes)[])";
+
+    private static Tuple args() {
+        return Tuple.of(
+                Strings.decode("deadbeefcafe"),
+                "ünïcödé metadata",
+                new byte[] { 1, 2, 3, 4 },
+                new String[] { "a", "", "ccc" },
+                new Tuple[] { Tuple.of(new byte[32], TestUtils.randomBytes(70)) }
+        );
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final Function plain = new Function(SIGNATURE);
+        final Function views = Function.parse(ABIType.FLAG_BYTES_VIEW, SIGNATURE, "()");
+        assertEquals(plain.getCanonicalSignature(), views.getCanonicalSignature());
+        assertArrayEquals(plain.selector(), views.selector());
+        assertEquals(BytesView.class, views.getInputs().get(0).clazz());
+        assertEquals(BytesView[].class, views.getInputs().get(3).asArrayType().clazz());
+
+        final Tuple args = args();
+        final byte[] call = plain.encodeCall(args).array();
+        final Tuple decoded = views.decodeCall(call);
+
+        final BytesView bytes = decoded.get(0);
+        assertArrayEquals(args.get(0), bytes.toByteArray());
+        assertEquals("deadbeefcafe", bytes.toString());
+        assertEquals(args.get(1), decoded.get(1).toString());
+        assertArrayEquals(args.<byte[]>get(2), decoded.<BytesView>get(2).toByteArray());
+        final BytesView[] strings = decoded.get(3);
+        assertEquals(3, strings.length);
+        assertEquals("ccc", strings[2].toString());
+        final Tuple inner = decoded.<Tuple[]>get(4)[0];
+        assertArrayEquals(args.<Tuple[]>get(4)[0].<byte[]>get(1), inner.<BytesView>get(1).toByteArray());
+
+        assertArrayEquals(call, views.encodeCall(decoded).array());
+        assertEquals(decoded, views.decodeCall(call));
+        assertEquals(decoded, SuperSerial.fromRLP(views.getInputs(), SuperSerial.toRLP(views.getInputs(), decoded)));
+
+        final TupleType<Tuple> packable = TupleType.parse(ABIType.FLAG_BYTES_VIEW, "(bytes4,string)");
+        final Tuple p = Tuple.of(decoded.get(2), decoded.get(1));
+        assertEquals(p, packable.decodePacked(packable.encodePacked(p).array()));
+    }
+
+    @Test
+    public void testSharesInput() throws Throwable {
+        final TupleType<Tuple> tt = TupleType.parse(ABIType.FLAG_BYTES_VIEW, "(bytes)");
+        final byte[] encoded = tt.encode(Tuple.singleton(BytesView.wrap(new byte[] { 9, 8, 7 }))).array();
+        final BytesView view = tt.decode(encoded).get(0);
+        assertEquals(9, view.byteAt(0));
+        encoded[64] = 5;
+        assertEquals(5, view.byteAt(0));
+
+        final ByteBuffer bb = view.asByteBuffer();
+        assertTrue(bb.isReadOnly());
+        assertEquals(0, bb.position());
+        assertEquals(3, bb.remaining());
+        assertEquals(8, bb.get(1));
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length);
+        direct.put(encoded).flip();
+        final BytesView copied = tt.decode(direct).get(0);
+        assertEquals(view, copied);
+        assertEquals(view.hashCode(), copied.hashCode());
+        encoded[64] = 6;
+        assertNotEquals(view, copied);
+
+        assertThrown(IndexOutOfBoundsException.class, "index 3, length 3", () -> view.byteAt(3));
+    }
+
+    @Test
+    public void testValidation() throws Throwable {
+        final TupleType<Tuple> tt = TupleType.parse(ABIType.FLAG_BYTES_VIEW, "(bytes2,string)");
+        assertThrown(IllegalArgumentException.class, "tuple index 0: array length mismatch: BytesView != BytesView (bytes2 requires length 2 but found 3)", () -> tt.encode(Tuple.of(BytesView.wrap(new byte[3]), BytesView.of(""))));
+        assertThrown(IllegalArgumentException.class, "tuple index 1: class mismatch: java.lang.String != com.esaulpaugh.headlong.abi.BytesView (string requires BytesView but found String)", () -> tt.encode(Tuple.of(BytesView.wrap(new byte[2]), "")));
+        final byte[] encoded = tt.encode(Tuple.of(BytesView.wrap(new byte[2]), BytesView.of("x"))).array();
+        encoded[31] = 1;
+        assertThrown(IllegalArgumentException.class, "tuple index 0: malformed array: non-zero padding byte", () -> tt.decode(encoded));
+    }
+}
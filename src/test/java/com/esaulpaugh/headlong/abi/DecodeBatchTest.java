@@ -0,0 +1,91 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DecodeBatchTest {
+
+    private static final Function F = Function.parse("f(int64,string)", "(int256[],bool)");
+
+    @Test
+    public void testOrderAndErrors() throws Throwable {
+        final List<byte[]> calls = new ArrayList<>();
+        final List<byte[]> returns = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            calls.add(F.encodeCall(Tuple.of((long) i, "#" + i)).array());
+            final BigInteger[] arr = new BigInteger[i % 5];
+            Arrays.fill(arr, BigInteger.valueOf(-i));
+            returns.add(F.getOutputs().encode(Tuple.of(arr, i % 2 == 0)).array());
+        }
+        calls.set(17, new byte[] { 1, 2, 3, 4 });
+        returns.set(999, Arrays.copyOf(returns.get(999), returns.get(999).length + 1));
+
+        final ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            for (Executor executor : Arrays.<Executor>asList(pool, ForkJoinPool.commonPool(), Runnable::run)) {
+                final List<DecodeResult<Tuple>> callResults = F.decodeCallBatch(calls, executor);
+                assertEquals(calls.size(), callResults.size());
+                for (int i = 0; i < calls.size(); i++) {
+                    final DecodeResult<Tuple> r = callResults.get(i);
+                    if (i == 17) {
+                        assertFalse(r.isSuccess());
+                        assertNull(r.value());
+                        assertEquals("given selector does not match: expected: " + F.selectorHex() + ", found: 01020304", r.error().getMessage());
+                        assertThrown(IllegalStateException.class, r.error().getMessage(), r::get);
+                        try {
+                            r.get();
+                        } catch (IllegalStateException ise) {
+                            assertSame(r.error(), ise.getCause());
+                        }
+                    } else {
+                        assertTrue(r.isSuccess());
+                        assertEquals(Tuple.of((long) i, "#" + i), r.get());
+                    }
+                }
+                final List<DecodeResult<Tuple>> returnResults = F.decodeReturnBatch(returns, executor);
+                for (int i = 0; i < returns.size(); i++) {
+                    final DecodeResult<Tuple> r = returnResults.get(i);
+                    if (i == 999) {
+                        assertEquals("unconsumed bytes: 1 remaining", r.error().getMessage());
+                    } else {
+                        assertEquals(F.decodeReturn(returns.get(i)), r.value());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(Collections.emptyList(), F.decodeReturnBatch(Collections.emptyList(), ForkJoinPool.commonPool()));
+    }
+}
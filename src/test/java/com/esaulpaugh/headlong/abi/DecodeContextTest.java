@@ -0,0 +1,129 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.TestUtils;
+import com.esaulpaugh.headlong.util.FastHex;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DecodeContextTest {
+
+    private static String outcome(Supplier<?> s) {
+        try {
+            return String.valueOf(s.get());
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    @Test
+    public void testMonteCarlo() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final MonteCarloTestCase.Limits limits = new MonteCarloTestCase.Limits(3, 3, 3, 3);
+        final Random instance = new Random();
+        final DecodeContext ctx = new DecodeContext();
+        long seed = TestUtils.getSeed();
+        for (int i = 0; i < 500; i++, seed++) {
+            final MonteCarloTestCase testCase = new MonteCarloTestCase(seed, limits, instance, Function.newDefaultDigest());
+            final TupleType<Tuple> tt = testCase.function.getInputs();
+            final byte[] encoded = tt.encode(testCase.argsTuple).array();
+            assertEquals(testCase.argsTuple, tt.decode(encoded, ctx));
+            final TupleType<Tuple> legacy = TupleType.parse(ABIType.FLAG_LEGACY_DECODE, tt.canonicalType);
+            assertEquals(outcome(() -> legacy.decode(encoded)), outcome(() -> legacy.decode(encoded, ctx)));
+
+            final ByteBuffer a = ByteBuffer.wrap(encoded);
+            final ByteBuffer b = ByteBuffer.wrap(encoded);
+            assertEquals(tt.decode(a), tt.decode(b, ctx));
+            assertEquals(a.position(), b.position());
+
+            final byte[] call = testCase.function.encodeCall(testCase.argsTuple).array();
+            assertEquals(testCase.argsTuple, testCase.function.decodeCall(call, ctx));
+            assertEquals(testCase.argsTuple, testCase.function.decodeCall(ByteBuffer.wrap(call), ctx));
+
+            if (encoded.length > 0) {
+                final byte[] mutated = encoded.clone();
+                for (int j = 0; j < 4; j++) { // same array, new contents each time
+                    mutated[r.nextInt(mutated.length)] = (byte) r.nextInt();
+                    assertEquals(outcome(() -> tt.decode(mutated)), outcome(() -> tt.decode(mutated, ctx)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReuse() throws Throwable {
+        final Function f = Function.parse("foo(uint8,string)", "(bytes,int64[])");
+        final DecodeContext ctx = new DecodeContext();
+        final Tuple args = Tuple.of(7, "seven");
+        final byte[] call = f.encodeCall(args).array();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(args, f.decodeCall(call, ctx));
+        }
+        final Tuple ret = Tuple.of(new byte[] { 1, 2 }, new long[] { -1L, 2L });
+        final byte[] returnVals = f.getOutputs().encode(ret).array();
+        assertEquals(ret, f.decodeReturn(returnVals, ctx));
+        assertEquals(ret, f.decodeReturn(ByteBuffer.wrap(returnVals), ctx));
+        assertEquals(args, f.decodeCall(call, ctx));
+
+        final byte[] shortCall = Arrays.copyOf(call, 3);
+        assertThrown(IllegalArgumentException.class, "given selector does not match: expected: " + f.selectorHex() + ", found: " + FastHex.encodeToString(shortCall) + "00", () -> f.decodeCall(shortCall, ctx));
+        call[0]++;
+        final String found = FastHex.encodeToString(call, 0, Function.SELECTOR_LEN);
+        assertThrown(IllegalArgumentException.class, "given selector does not match: expected: " + f.selectorHex() + ", found: " + found, () -> f.decodeCall(call, ctx));
+        assertThrown(IllegalArgumentException.class, "given selector does not match: expected: " + f.selectorHex() + ", found: " + found, () -> f.decodeCall(ByteBuffer.wrap(call), ctx));
+        assertThrown(IllegalArgumentException.class, "unconsumed bytes: 1 remaining", () -> f.decodeReturn(Arrays.copyOf(returnVals, returnVals.length + 1), ctx));
+
+        final TupleType<Tuple> views = TupleType.parse(ABIType.FLAG_BYTES_VIEW, "(bytes,string)");
+        final byte[] first = views.encode(Tuple.of(BytesView.wrap(new byte[] { 1, 2, 3 }), BytesView.of("abc"))).array();
+        final Tuple decoded = views.decode(first, ctx);
+        views.decode(views.encode(Tuple.of(BytesView.wrap(new byte[] { 9, 9, 9 }), BytesView.wrap(new byte[600]))).array(), ctx);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, decoded.<BytesView>get(0).toByteArray());
+        assertEquals("abc", decoded.get(1).toString());
+        first[96] = 7; // views share the input array rather than copying out of it
+        assertEquals(7, decoded.<BytesView>get(0).byteAt(0));
+    }
+
+    @Test
+    public void testEvent() throws Throwable {
+        final Event<Tuple> event = Event.create("Transfer", TupleType.parse("(address,address,uint256)"), true, true, false);
+        final byte[][] topics = {
+                FastHex.decode("ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef"),
+                FastHex.decode("000000000000000000000000bbb677a94eda9660832e9944353dd6e814a45705"),
+                FastHex.decode("000000000000000000000000bcead8896acb7a045c38287e433d896eefb40f6c")
+        };
+        final byte[] data = FastHex.decode("00000000000000000000000000000000000000000000000002386f26fc100000");
+        final DecodeContext ctx = new DecodeContext();
+        final Tuple expected = event.decodeArgs(topics, data);
+        assertEquals(new BigInteger("160000000000000000"), expected.get(2));
+        assertEquals(expected, event.decodeArgs(topics, data, ctx));
+        assertEquals(expected, event.decodeArgs(topics, data, ctx));
+
+        topics[0][31]++;
+        assertEquals(outcome(() -> event.decodeArgs(topics, data)), outcome(() -> event.decodeArgs(topics, data, ctx)));
+        topics[0] = Arrays.copyOf(topics[0], 31);
+        assertEquals(outcome(() -> event.decodeArgs(topics, data)), outcome(() -> event.decodeArgs(topics, data, ctx)));
+    }
+}
@@ -781,4 +781,31 @@ public class EncodeTest {
         assertEquals(expected, tt.validate(pair));
         assertEquals(expected, tt.byteLength(pair));
     }
+
+    @Test
+    public void testNestedDynamicOffsets() {
+        final TupleType<Pair<String, Tuple[]>> tt = TupleType.parse("(string,(string,bytes,bool[])[])");
+        final Pair<String, Tuple[]> value = Tuple.of(
+                "outer",
+                new Tuple[] {
+                        Tuple.of("a", new byte[] { 1, 2, 3 }, new boolean[] { true, false }),
+                        Tuple.of("", new byte[0], new boolean[0]),
+                        Tuple.of("\u00e9\u00e9\u00e9", new byte[33], new boolean[] { true })
+                }
+        );
+        final byte[] expected = tt.encode(value).array();
+        assertEquals(value, tt.decode(expected));
+        assertEquals(
+                "0000000000000000000000000000000000000000000000000000000000000040" +
+                "0000000000000000000000000000000000000000000000000000000000000080",
+                Strings.encode(Arrays.copyOf(expected, UNIT_LENGTH_BYTES * 2))
+        );
+
+        final int pos = 7;
+        final ByteBuffer dest = ByteBuffer.allocate(pos + expected.length + 3);
+        dest.position(pos);
+        tt.encode(value, dest);
+        assertEquals(pos + expected.length, dest.position());
+        assertArrayEquals(expected, Arrays.copyOfRange(dest.array(), pos, pos + expected.length));
+    }
 }
@@ -0,0 +1,102 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.FastHex;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventRegistryTest {
+
+    private static final byte[] TRANSFER_HASH = FastHex.decode("ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef");
+
+    private static final Address FROM = Address.wrap("0x82095CAfeBaBECaFebaBe00083Ce15d74e191051");
+    private static final Address TO = Address.wrap("0x52908400098527886E0F7030069857D2E4169EE7");
+
+    private static byte[] topic(ABIType<Object> type, Object value) {
+        return type.encode(value).array();
+    }
+
+    @Test
+    public void testDispatch() throws Throwable {
+        final TupleType<Tuple> params = TupleType.parse("(address,address,uint256)");
+        final Event<Tuple> erc20 = Event.create("Transfer", params, true, true, false);
+        final Event<Tuple> erc721 = Event.create("Transfer", params, true, true, true);
+        final Event<Tuple> approval = Event.create("Approval", params, true, true, false);
+        final Event<Tuple> anon = Event.createAnonymous("Anon", TupleType.parse("(uint8,bool)"), true, false);
+        final EventRegistry registry = EventRegistry.of(erc20, erc721, approval, anon, Event.create("Transfer", params, true, true, false));
+        assertEquals(4, registry.size());
+
+        final byte[] from = topic(TypeFactory.create("address"), FROM);
+        final byte[] to = topic(TypeFactory.create("address"), TO);
+        final byte[] amount = topic(TypeFactory.create("uint256"), BigInteger.valueOf(77L));
+
+        final EventRegistry.DecodedLog fungible = registry.decode(new byte[][] { TRANSFER_HASH, from, to }, amount);
+        assertTrue(fungible.isFound());
+        assertSame(erc20, fungible.event());
+        assertEquals(Tuple.of(FROM, TO, BigInteger.valueOf(77L)), fungible.args());
+
+        final DecodeContext ctx = new DecodeContext();
+        final EventRegistry.DecodedLog nft = registry.decode(new byte[][] { TRANSFER_HASH, from, to, amount }, new byte[0], ctx);
+        assertSame(erc721, nft.event());
+        assertEquals(Tuple.of(FROM, TO, BigInteger.valueOf(77L)), nft.args());
+
+        final EventRegistry.DecodedLog anonymous = registry.decode(new byte[][] { topic(TypeFactory.create("uint8"), 9) }, topic(TypeFactory.create("bool"), true), ctx);
+        assertSame(anon, anonymous.event());
+        assertEquals(Tuple.of(9, true), anonymous.args());
+
+        assertSame(EventRegistry.NOT_FOUND, registry.decode(new byte[][] { TRANSFER_HASH, from }, amount));
+        assertSame(EventRegistry.NOT_FOUND, registry.decode(new byte[][] { new byte[32], from, to }, amount));
+        assertSame(EventRegistry.NOT_FOUND, registry.decode(new byte[][] { amount }, amount)); // 77 exceeds uint8
+        assertSame(EventRegistry.NOT_FOUND, registry.decode(null, null));
+        assertSame(EventRegistry.NOT_FOUND, registry.decode(new byte[][] { new byte[3] }, null));
+        assertFalse(EventRegistry.NOT_FOUND.isFound());
+        assertNull(EventRegistry.NOT_FOUND.event());
+        assertNull(EventRegistry.NOT_FOUND.args());
+
+        assertThrown(IllegalArgumentException.class, "no event with signature hash " + FastHex.encodeToString(TRANSFER_HASH) + " could decode the log",
+                () -> registry.decode(new byte[][] { TRANSFER_HASH, from, to }, Arrays.copyOf(amount, 31)));
+    }
+
+    @Test
+    public void testMany() {
+        final Event<?>[] events = new Event<?>[2000];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = Event.create("E" + i, TupleType.parse("(int64)"), i % 2 == 0);
+        }
+        final EventRegistry registry = EventRegistry.of(events);
+        assertEquals(events.length, registry.size());
+        final byte[] value = topic(TypeFactory.create("int64"), 5L);
+        for (int i = 0; i < events.length; i++) {
+            final Event<?> e = events[i];
+            final byte[] hash = e.signatureHash();
+            final EventRegistry.DecodedLog log = i % 2 == 0
+                    ? registry.decode(new byte[][] { hash, value }, null)
+                    : registry.decode(new byte[][] { hash }, value);
+            assertSame(e, log.event());
+            assertEquals(Single.of(5L), log.args());
+        }
+    }
+}
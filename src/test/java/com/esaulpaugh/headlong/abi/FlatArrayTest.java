@@ -0,0 +1,148 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.TestUtils;
+import com.esaulpaugh.headlong.util.FastHex;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FlatArrayTest {
+
+    @Test
+    public void testBooleans() {
+        final Random r = TestUtils.seededRandom();
+        final ArrayType<BooleanType, Boolean, boolean[]> type = TypeFactory.create("bool[]");
+        for (int len : new int[] { 0, 1, 63, 64, 65, 200 }) {
+            final boolean[] expected = new boolean[len];
+            int count = 0;
+            for (int i = 0; i < len; i++) {
+                if (expected[i] = r.nextBoolean()) count++;
+            }
+            final FlatArray.Bits bits = type.decodeFlat(type.encode(expected).array());
+            assertEquals(len, bits.size());
+            assertEquals(count, bits.cardinality());
+            assertEquals((len + 63) / 64, bits.array().length);
+            for (int i = 0; i < len; i++) {
+                assertEquals(expected[i], bits.getBoolean(i));
+            }
+        }
+    }
+
+    @Test
+    public void testAddresses() {
+        final ArrayType<AddressType, Address, Address[]> type = TypeFactory.create("address[2]");
+        final Address[] expected = new Address[] {
+                Address.wrap("0x82095CAfeBaBECaFebaBe00083Ce15d74e191051"),
+                Address.wrap("0x52908400098527886E0F7030069857D2E4169EE7")
+        };
+        final FlatArray.Bytes flat = type.decodeFlat(type.encode(expected));
+        assertEquals(2, flat.size());
+        assertEquals(20, flat.stride());
+        assertEquals(40, flat.array().length);
+        assertEquals(expected[0], flat.getAddress(0));
+        assertEquals(expected[1], flat.getAddress(1));
+        assertEquals("52908400098527886e0f7030069857d2e4169ee7", FastHex.encodeToString(flat.get(1)));
+    }
+
+    @Test
+    public void testBytesN() {
+        final Random r = TestUtils.seededRandom();
+        for (String t : new String[] { "bytes32[]", "bytes4[3]", "bytes1[]" }) {
+            final ArrayType<ArrayType<ByteType, Byte, byte[]>, byte[], byte[][]> type = TypeFactory.create(t);
+            final int n = type.getElementType().getLength();
+            final byte[][] expected = new byte[5][];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = TestUtils.randomBytes(n, r);
+            }
+            final byte[][] arg = type.getLength() == ArrayType.DYNAMIC_LENGTH ? expected : Arrays.copyOf(expected, type.getLength());
+            final FlatArray.Bytes flat = type.decodeFlat(type.encode(arg).array());
+            assertEquals(arg.length, flat.size());
+            final byte[] dest = new byte[n + 1];
+            for (int i = 0; i < arg.length; i++) {
+                assertArrayEquals(arg[i], flat.get(i));
+                flat.copyTo(i, dest, 1);
+                assertArrayEquals(arg[i], Arrays.copyOfRange(dest, 1, dest.length));
+            }
+        }
+    }
+
+    @Test
+    public void testWords() {
+        final Random r = TestUtils.seededRandom();
+        for (String t : new String[] { "uint256[]", "int[4]" }) {
+            final ArrayType<BigIntegerType, BigInteger, BigInteger[]> type = TypeFactory.create(t);
+            final boolean unsigned = type.getElementType().isUnsigned();
+            final BigInteger[] expected = new BigInteger[4];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = TestUtils.wildBigInteger(r, unsigned, 256);
+            }
+            final FlatArray.Words flat = type.decodeFlat(type.encode(expected));
+            assertEquals(expected.length, flat.size());
+            assertEquals(unsigned, flat.isUnsigned());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], flat.get(i));
+                assertEquals(expected[i].longValue(), flat.getWord(i, 3));
+                if (unsigned) {
+                    assertEquals(Uint256.valueOf(expected[i]), flat.getUint256(i));
+                } else {
+                    assertEquals(Int256.valueOf(expected[i]), flat.getInt256(i));
+                }
+            }
+        }
+        final ArrayType<Uint256Type, Uint256, Uint256[]> limbs = TypeFactory.create(ABIType.FLAG_INT256_LIMBS, "uint[]");
+        final FlatArray.Words flat = limbs.decodeFlat(limbs.encode(new Uint256[] { Uint256.MAX_VALUE, Uint256.ONE }).array());
+        assertSame(Uint256.MAX_VALUE.getClass(), flat.getUint256(0).getClass());
+        assertEquals(Uint256.MAX_VALUE, flat.getUint256(0));
+        assertEquals(BigInteger.ONE, flat.get(1));
+    }
+
+    @Test
+    public void testErrors() throws Throwable {
+        assertThrown(IllegalArgumentException.class, "flat decode not supported for element type string", () -> TypeFactory.<ArrayType<?, ?, ?>>create("string[]").decodeFlat(new byte[0]));
+        assertThrown(IllegalArgumentException.class, "flat decode not supported for element type uint128", () -> TypeFactory.<ArrayType<?, ?, ?>>create("uint128[]").decodeFlat(new byte[0]));
+        assertThrown(IllegalArgumentException.class, "flat decode not supported for element type bytes", () -> TypeFactory.<ArrayType<?, ?, ?>>create("bytes[]").decodeFlat(new byte[0]));
+        assertThrown(IllegalArgumentException.class, "flat decode not supported for element type (bool)", () -> TypeFactory.<ArrayType<?, ?, ?>>create("(bool)[]").decodeFlat(new byte[0]));
+
+        final ArrayType<?, ?, ?> bools = TypeFactory.create("bool[2]");
+        final byte[] badBool = new byte[64];
+        badBool[63] = 2;
+        assertThrown(IllegalArgumentException.class, "array index 1: unsigned val exceeds bit limit: 2 > 1", () -> bools.decodeFlat(badBool));
+        assertThrown(IllegalArgumentException.class, "unconsumed bytes: 1 remaining", () -> bools.decodeFlat(new byte[65]));
+        assertThrown(IllegalArgumentException.class, "not enough bytes remaining: 63 < 64", () -> bools.decodeFlat(new byte[63]));
+
+        final ArrayType<?, ?, ?> addresses = TypeFactory.create("address[1]");
+        final byte[] badAddress = new byte[32];
+        badAddress[11] = 1;
+        assertThrown(IllegalArgumentException.class, "array index 0: unsigned val exceeds bit limit: 161 > 160", () -> addresses.decodeFlat(badAddress));
+
+        final ArrayType<?, ?, ?> bytes4 = TypeFactory.create("bytes4[1]");
+        final byte[] badPadding = new byte[32];
+        badPadding[31] = 1;
+        assertThrown(IllegalArgumentException.class, "array index 0: malformed array: non-zero padding byte", () -> bytes4.decodeFlat(badPadding));
+        final ArrayType<?, ?, ?> legacy = TypeFactory.create(ABIType.FLAG_LEGACY_DECODE, "bytes4[1]");
+        assertThrown(IllegalArgumentException.class, "unconsumed bytes: 28 remaining", () -> legacy.decode(badPadding));
+        assertThrown(IllegalArgumentException.class, "unconsumed bytes: 28 remaining", () -> legacy.decodeFlat(badPadding));
+    }
+}
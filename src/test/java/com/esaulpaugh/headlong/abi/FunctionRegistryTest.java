@@ -0,0 +1,114 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.FastHex;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FunctionRegistryTest {
+
+    private static final String ABI = "[" +
+            "{\"type\":\"function\",\"name\":\"transfer\",\"inputs\":[{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"value\",\"type\":\"uint256\"}],\"outputs\":[{\"type\":\"bool\"}]}," +
+            "{\"type\":\"function\",\"name\":\"approve\",\"inputs\":[{\"name\":\"spender\",\"type\":\"address\"},{\"name\":\"value\",\"type\":\"uint256\"}],\"outputs\":[{\"type\":\"bool\"}]}," +
+            "{\"type\":\"event\",\"name\":\"Transfer\",\"inputs\":[{\"indexed\":true,\"name\":\"from\",\"type\":\"address\"}]}," +
+            "{\"type\":\"fallback\"}" +
+            "]";
+
+    @Test
+    public void testLookupAndDecode() throws Throwable {
+        final List<ABIObject> objects = new ABIParser().parse(ABI);
+        final FunctionRegistry registry = FunctionRegistry.of(objects);
+        assertEquals(2, registry.size());
+
+        final Function transfer = registry.lookup(FastHex.decode("a9059cbb")).get(0);
+        assertEquals("transfer(address,uint256)", transfer.getCanonicalSignature());
+        assertEquals(Collections.emptyList(), registry.lookup(0));
+
+        final Address to = Address.wrap("0x82095CAfeBaBECaFebaBe00083Ce15d74e191051");
+        final Tuple args = Tuple.of(to, BigInteger.TEN);
+        final byte[] calldata = transfer.encodeCall(args).array();
+        final FunctionRegistry.DecodedCall decoded = registry.decodeCall(calldata);
+        assertSame(transfer, decoded.function());
+        assertEquals(args, decoded.args());
+
+        final DecodeContext ctx = new DecodeContext();
+        final Function approve = registry.lookup(FastHex.decode("095ea7b3")).get(0);
+        assertEquals(args, registry.decodeCall(approve.encodeCall(args).array(), ctx).args());
+        assertEquals(args, registry.decodeCall(calldata, ctx).args());
+
+        assertThrown(IllegalArgumentException.class, "calldata too short: 3 < 4", () -> registry.decodeCall(new byte[3]));
+        assertThrown(IllegalArgumentException.class, "no function with selector 00000000", () -> registry.decodeCall(new byte[4]));
+        assertThrown(IllegalArgumentException.class, "expected selector length 4 but found length 5", () -> registry.lookup(new byte[5]));
+        assertThrown(IllegalArgumentException.class, "unconsumed bytes: 1 remaining", () -> registry.decodeCall(Arrays.copyOf(calldata, calldata.length + 1)));
+    }
+
+    @Test
+    public void testCollisions() throws Throwable {
+        final Function burn = Function.parse("burn(uint256)");
+        final Function collate = Function.parse("collate_propagate_storage(bytes16)");
+        assertEquals(burn.selectorHex(), collate.selectorHex());
+        final FunctionRegistry registry = FunctionRegistry.of(burn, collate, Function.parse("burn(uint256)"));
+        assertEquals(2, registry.size());
+        assertEquals(Arrays.asList(burn, collate), registry.lookup(FastHex.decode(burn.selectorHex())));
+
+        final byte[] burnCall = burn.encodeCallWithArgs(BigInteger.valueOf(5L)).array();
+        assertSame(burn, registry.decodeCall(burnCall).function());
+
+        final String ambiguous = "ambiguous calldata for selector " + burn.selectorHex()
+                + ": decodable by both burn(uint256) and collate_propagate_storage(bytes16)";
+        final byte[] collateCall = collate.encodeCallWithArgs((Object) new byte[16]).array();
+        collateCall[4] = 1; // also a valid uint256
+        assertThrown(IllegalArgumentException.class, ambiguous, () -> registry.decodeCall(collateCall));
+        assertEquals(collate.decodeCall(collateCall), registry.lookup(FastHex.decode(collate.selectorHex())).get(1).decodeCall(collateCall));
+
+        collateCall[4] = 0;
+        collateCall[35] = 1; // non-zero padding is invalid for bytes16 but not for uint256
+        assertSame(burn, registry.decodeCall(collateCall).function());
+
+        final byte[] bad = Arrays.copyOf(burnCall, burnCall.length - 1);
+        assertThrown(IllegalArgumentException.class, "no function with selector " + burn.selectorHex() + " could decode the calldata", () -> registry.decodeCall(bad));
+
+        final FunctionRegistry reversed = FunctionRegistry.of(collate, burn);
+        final byte[] zeros = burn.encodeCallWithArgs(BigInteger.ZERO).array();
+        assertThrown(IllegalArgumentException.class, "ambiguous calldata for selector " + burn.selectorHex()
+                + ": decodable by both collate_propagate_storage(bytes16) and burn(uint256)", () -> reversed.decodeCall(zeros));
+        zeros[35] = 1;
+        assertSame(burn, reversed.decodeCall(zeros).function());
+    }
+
+    @Test
+    public void testMany() {
+        final Function[] functions = new Function[1000];
+        for (int i = 0; i < functions.length; i++) {
+            functions[i] = Function.parse("f" + i + "(uint8)");
+        }
+        final FunctionRegistry registry = FunctionRegistry.of(functions);
+        assertEquals(functions.length, registry.size());
+        for (Function f : functions) {
+            final byte[] call = f.encodeCallWithArgs(7).array();
+            assertSame(f, registry.decodeCall(call).function());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Int256Test {
+
+    private static final int FLAGS = ABIType.FLAG_INT256_LIMBS;
+
+    @Test
+    public void testTypeSelection() {
+        TupleType<?> tt = TypeFactory.create(FLAGS, "(uint256,int[],uint,int8,uint128)");
+        assertSame(Uint256Type.INSTANCE, tt.get(0));
+        assertSame(Int256Type.INSTANCE, tt.get(1).asArrayType().getElementType());
+        assertSame(Uint256Type.INSTANCE, tt.get(2));
+        assertTrue(tt.get(3) instanceof IntType);
+        assertTrue(tt.get(4) instanceof BigIntegerType);
+        assertEquals("(uint256,int256[],uint256,int8,uint128)", tt.getCanonicalType());
+        assertEquals(ABIType.TYPE_CODE_UINT256, tt.get(0).typeCode());
+        assertEquals(ABIType.TYPE_CODE_INT256, Int256Type.INSTANCE.typeCode());
+
+        assertTrue(TypeFactory.create("uint256") instanceof BigIntegerType);
+        assertSame(Uint256Type.INSTANCE, TypeFactory.create(FLAGS | ABIType.FLAG_LEGACY_DECODE, "uint"));
+        assertNotEquals(TupleType.parse("(uint256)"), TypeFactory.create(FLAGS, "(uint256)"));
+        assertEquals(Uint256.class, Uint256Type.INSTANCE.clazz());
+        assertEquals(Int256[].class, Int256Type.INSTANCE.arrayClass());
+
+        assertNotEquals(TypeFactory.create("uint256"), Uint256Type.INSTANCE);
+        assertNotEquals(TypeFactory.create("int256"), Int256Type.INSTANCE);
+        assertNotEquals(TypeFactory.create("int256").hashCode(), Int256Type.INSTANCE.hashCode());
+        assertEquals(FLAGS, Uint256Type.INSTANCE.getFlags());
+        assertEquals(FLAGS, Int256Type.INSTANCE.getFlags());
+    }
+
+    @Test
+    public void testRoundTrip() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final Function plain = Function.parse("foo(uint256,int256[],(int256,uint256)[2])");
+        final Function limbs = Function.parse(FLAGS, "foo(uint256,int256[],(int256,uint256)[2])", "()");
+        assertArrayEquals(plain.selector(), limbs.selector());
+        for (int i = 0; i < 50; i++) {
+            final BigInteger u = TestUtils.wildBigInteger(r, true, 256);
+            final BigInteger s0 = TestUtils.wildBigInteger(r, false, 256);
+            final BigInteger s1 = TestUtils.wildBigInteger(r, false, 256);
+            final BigInteger s2 = TestUtils.wildBigInteger(r, false, 256);
+            final BigInteger u1 = TestUtils.wildBigInteger(r, true, 256);
+            final ByteBuffer call = plain.encodeCallWithArgs(
+                    u,
+                    new BigInteger[] { s0, s1 },
+                    new Tuple[] { Tuple.of(s2, u1), Tuple.of(BigInteger.ZERO, BigInteger.ONE) }
+            );
+            final Tuple decoded = limbs.decodeCall(call.array());
+            assertEquals(Uint256.valueOf(u), decoded.get(0));
+            assertArrayEquals(new Int256[] { Int256.valueOf(s0), Int256.valueOf(s1) }, decoded.get(1));
+            final Tuple[] tuples = decoded.get(2);
+            assertEquals(Tuple.of(Int256.valueOf(s2), Uint256.valueOf(u1)), tuples[0]);
+            assertEquals(Tuple.of(Int256.ZERO, Uint256.ONE), tuples[1]);
+
+            assertEquals(u, decoded.<Uint256>get(0).toBigInteger());
+            assertEquals(s1, decoded.<Int256[]>get(1)[1].toBigInteger());
+            assertEquals(u.toString(), decoded.get(0).toString());
+            assertEquals(s0.toString(), decoded.<Int256[]>get(1)[0].toString());
+
+            assertArrayEquals(call.array(), limbs.encodeCall(decoded).array());
+            assertEquals(decoded, limbs.getInputs().decodePacked(limbs.getInputs().encodePacked(decoded).array()));
+            assertEquals(decoded, SuperSerial.fromRLP(limbs.getInputs(), SuperSerial.toRLP(limbs.getInputs(), decoded)));
+        }
+    }
+
+    @Test
+    public void testValueOf() throws Throwable {
+        assertThrown(IllegalArgumentException.class, "signed value given for unsigned type", () -> Uint256.valueOf(-1L));
+        assertThrown(IllegalArgumentException.class, "signed value given for unsigned type", () -> Uint256.valueOf(BigInteger.valueOf(-1L)));
+        assertThrown(IllegalArgumentException.class, "unsigned val exceeds bit limit: 257 > 256", () -> Uint256.valueOf(BigInteger.ONE.shiftLeft(256)));
+        assertThrown(IllegalArgumentException.class, "signed val exceeds bit limit: 256 >= 256", () -> Int256.valueOf(BigInteger.ONE.shiftLeft(255)));
+        assertThrown(IllegalArgumentException.class, "signed val exceeds bit limit: 256 >= 256", () -> Int256.valueOf(BigInteger.ONE.shiftLeft(255).negate().subtract(BigInteger.ONE)));
+
+        assertEquals(Uint256.MAX_VALUE, Uint256.valueOf(Uint256Type.INSTANCE.maxValue()));
+        assertEquals(Int256.MAX_VALUE, Int256.valueOf(Int256Type.INSTANCE.maxValue()));
+        assertEquals(Int256.MIN_VALUE, Int256.valueOf(Int256Type.INSTANCE.minValue()));
+        assertEquals(Int256.MINUS_ONE, Int256.valueOf(-1L));
+        assertEquals(Uint256.of(0L, 0L, 0L, Long.MAX_VALUE), Uint256.valueOf(Long.MAX_VALUE));
+        assertEquals(Uint256.of(0L, 0L, 0L, 7L), Uint256.valueOf(7L));
+        assertEquals(Int256.valueOf(BigInteger.valueOf(Long.MIN_VALUE)), Int256.valueOf(Long.MIN_VALUE));
+        assertEquals(Uint256.of(0L, 0L, 1L, 0L), Uint256.valueOf(BigInteger.ONE.shiftLeft(64)));
+        assertEquals(Long.MIN_VALUE, Int256.MIN_VALUE.getWord(0));
+
+        assertEquals(Long.MIN_VALUE, Int256.valueOf(Long.MIN_VALUE).longValueExact());
+        assertThrown(ArithmeticException.class, "out of long range", () -> Uint256.of(0L, 0L, 0L, -1L).longValueExact());
+        assertEquals("18446744073709551615", Uint256.of(0L, 0L, 0L, -1L).toString());
+        assertEquals("-1", Int256.MINUS_ONE.toString());
+        assertEquals(-1, Int256.MINUS_ONE.signum());
+    }
+
+    @Test
+    public void testCompare() {
+        assertTrue(Uint256.MAX_VALUE.compareTo(Uint256.ZERO) > 0);
+        assertTrue(Uint256.of(0L, 0L, 0L, -1L).compareTo(Uint256.of(0L, 0L, 1L, 0L)) < 0);
+        assertTrue(Int256.MINUS_ONE.compareTo(Int256.ZERO) < 0);
+        assertTrue(Int256.MIN_VALUE.compareTo(Int256.MINUS_ONE) < 0);
+        assertTrue(Int256.MAX_VALUE.compareTo(Int256.ONE) > 0);
+
+        final Random r = TestUtils.seededRandom();
+        for (int i = 0; i < 100; i++) {
+            BigInteger x = TestUtils.wildBigInteger(r, false, 256);
+            BigInteger y = TestUtils.wildBigInteger(r, false, 256);
+            assertEquals(Integer.signum(x.compareTo(y)), Integer.signum(Int256.valueOf(x).compareTo(Int256.valueOf(y))));
+            x = x.abs();
+            y = y.abs();
+            assertEquals(Integer.signum(x.compareTo(y)), Integer.signum(Uint256.valueOf(x).compareTo(Uint256.valueOf(y))));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyTupleTest {
+
+    private static final Function FUNCTION = new Function("foo()", "(uint8,string,bool[],(int,bytes),address,bytes3,int64[2],uint256)");
+
+    private static Tuple values() {
+        return Tuple.from(
+                7,
+                "seven",
+                new boolean[] { true, false },
+                Tuple.of(BigInteger.TEN, new byte[] { 1, 2 }),
+                Address.wrap("0x82095CAfeBaBECaFebaBe00083Ce15d74e191051"),
+                new byte[3],
+                new long[] { -1L, 1L },
+                BigInteger.ONE
+        );
+    }
+
+    @Test
+    public void testLazyDecode() {
+        final Tuple values = values();
+        final byte[] encoded = FUNCTION.getOutputs().encode(values).array();
+        final LazyTuple lazy = FUNCTION.decodeReturnLazy(encoded);
+        assertEquals(values.size(), lazy.size());
+        assertSame(FUNCTION.getOutputs(), lazy.getType());
+        for (int i = 0; i < lazy.size(); i++) {
+            assertFalse(lazy.isDecoded(i));
+        }
+
+        assertEquals(values.<Tuple>get(3), lazy.get(3));
+        assertTrue(lazy.isDecoded(3));
+        assertFalse(lazy.isDecoded(1));
+        assertSame(lazy.<Tuple>get(3), lazy.get(3));
+        assertEquals("seven", lazy.get(1));
+        assertEquals(values.<Address>get(4), lazy.get(4));
+        assertArrayEquals(values.<long[]>get(6), lazy.get(6));
+
+        assertEquals(values, lazy.toTuple());
+        final List<Object> list = new ArrayList<>();
+        lazy.forEach(list::add);
+        assertEquals(values.size(), list.size());
+        assertSame(lazy.get(7), list.get(7));
+    }
+
+    @Test
+    public void testBufferPosition() {
+        final Tuple values = values();
+        final ByteBuffer bb = ByteBuffer.allocate(FUNCTION.getOutputs().measureEncodedLength(values) + 5);
+        bb.position(5);
+        FUNCTION.getOutputs().encode(values, bb);
+        bb.position(5);
+        final LazyTuple lazy = FUNCTION.decodeReturnLazy(bb);
+        assertEquals(5, bb.position());
+        assertEquals(values, lazy.toTuple());
+        assertEquals(5, bb.position());
+    }
+
+    @Test
+    public void testErrors() throws Throwable {
+        final TupleType<?> tt = TupleType.parse("(bool,uint8)");
+        assertThrown(IllegalArgumentException.class, "not enough bytes remaining: 63 < 64", () -> tt.decodeLazy(new byte[63]));
+        final byte[] encoded = new byte[64];
+        encoded[63] = 1;
+        encoded[62] = 1;
+        final LazyTuple lazy = tt.decodeLazy(encoded);
+        assertEquals(false, lazy.get(0));
+        assertThrown(IllegalArgumentException.class, "tuple index 1: unsigned val exceeds bit limit: 9 > 8", () -> lazy.get(1));
+        assertFalse(lazy.isDecoded(1));
+    }
+}
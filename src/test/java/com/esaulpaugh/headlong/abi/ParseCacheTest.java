@@ -0,0 +1,80 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParseCacheTest {
+
+    @Test
+    public void testTypeCache() throws Throwable {
+        assertThrown(IllegalArgumentException.class, "negative capacity: -1", () -> TypeFactory.setCacheCapacity(-1));
+        assertEquals(0, TypeFactory.cacheStats().capacity());
+        try {
+            TypeFactory.setCacheCapacity(32);
+            final TupleType<?> a = TupleType.parse("(uint8,bytes[])");
+            final TupleType<?> b = TypeFactory.create("(uint8,bytes[])");
+            assertSame(a, b);
+            final TupleType<?> legacy = TupleType.parse(ABIType.FLAG_LEGACY_DECODE, "(uint8,bytes[])");
+            assertNotSame(a, legacy);
+            assertEquals(ABIType.FLAG_LEGACY_DECODE, legacy.getFlags());
+            assertEquals(a, TypeFactory.create("(uint8,bytes[])"));
+            CacheStats stats = TypeFactory.cacheStats();
+            assertEquals(2L, stats.hits());
+            assertEquals(2L, stats.misses());
+            assertEquals(2, stats.size());
+            assertEquals(0.5, stats.hitRate());
+
+            IntStream.range(0, 1000).parallel().forEach(i -> assertEquals("uint" + (8 + 8 * (i % 32)), TypeFactory.create("uint" + (8 + 8 * (i % 32))).getCanonicalType()));
+            stats = TypeFactory.cacheStats();
+            assertEquals(1004L, stats.hits() + stats.misses());
+            assertTrue(stats.capacity() >= stats.size());
+
+            assertThrown(IllegalArgumentException.class, "unrecognized type: \"uint7\"", () -> TypeFactory.create("uint7"));
+        } finally {
+            TypeFactory.setCacheCapacity(0);
+        }
+        assertEquals("hits=0, misses=0, size=0, capacity=0", TypeFactory.cacheStats().toString());
+    }
+
+    @Test
+    public void testFunctionCache() throws Throwable {
+        assertThrown(IllegalArgumentException.class, "negative capacity: -5", () -> Function.setParseCacheCapacity(-5));
+        try {
+            Function.setParseCacheCapacity(4);
+            final Function f = Function.parse("transfer(address,uint256)", "(bool)");
+            assertSame(f, Function.parse(ABIType.FLAGS_NONE, "transfer(address,uint256)", "(bool)"));
+            assertNotSame(f, Function.parse("transfer(address,uint256)"));
+            assertEquals(new Function("transfer(address,uint256)"), Function.parse("transfer(address,uint256)"));
+            assertSame(Function.parse("transfer(address,uint256)"), Function.parse("transfer(address,uint256)", null));
+            final CacheStats stats = Function.parseCacheStats();
+            assertEquals(4L, stats.hits());
+            assertEquals(2L, stats.misses());
+            assertEquals(2, stats.size());
+        } finally {
+            Function.setParseCacheCapacity(0);
+        }
+        assertEquals(0L, Function.parseCacheStats().hits());
+    }
+}
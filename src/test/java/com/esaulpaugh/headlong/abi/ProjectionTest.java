@@ -0,0 +1,114 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ProjectionTest {
+
+    private static final Function FUNCTION = new Function("foo()", "(uint8,(string,uint16[])[],bytes,(bool,int24)[2],int[2][],(uint8,(bytes1,string))[3])");
+
+    private static Tuple values() {
+        return Tuple.from(
+                200,
+                new Tuple[] { Tuple.of("a", new int[] { 1, 2, 3 }), Tuple.of("bcd", new int[0]), Tuple.of("", new int[] { 65535 }) },
+                new byte[] { 9, 9 },
+                new Tuple[] { Tuple.of(true, -5), Tuple.of(false, 7) },
+                new BigInteger[][] { { BigInteger.ONE, BigInteger.TEN }, { BigInteger.ZERO, BigInteger.valueOf(-1L) } },
+                new Tuple[] {
+                        Tuple.of(1, Tuple.of(new byte[] { 1 }, "x")),
+                        Tuple.of(2, Tuple.of(new byte[] { 2 }, "yy")),
+                        Tuple.of(3, Tuple.of(new byte[] { 3 }, "zzz"))
+                }
+        );
+    }
+
+    @Test
+    public void testAllPaths() {
+        final Tuple values = values();
+        final byte[] encoded = FUNCTION.getOutputs().encode(values).array();
+        assertEquals(47, check(FUNCTION.getOutputs(), values, new int[0], encoded));
+    }
+
+    private static int check(ABIType<?> type, Object value, int[] path, byte[] encoded) {
+        final Projection<Object> projection = FUNCTION.project(Path.of(path));
+        assertEquals(Tuple.singleton(value), Tuple.singleton(FUNCTION.decodeReturn(encoded, projection)));
+        assertEquals(type, projection.getType());
+        int count = 1;
+        if (type instanceof TupleType) {
+            final TupleType<?> tt = type.asTupleType();
+            for (int i = 0; i < tt.size(); i++) {
+                count += check(tt.get(i), ((Tuple) value).get(i), append(path, i), encoded);
+            }
+        } else if (type instanceof ArrayType && !(value instanceof byte[] || value instanceof String)) {
+            final ABIType<?> et = type.asArrayType().getElementType();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                count += check(et, Array.get(value, i), append(path, i), encoded);
+            }
+        }
+        return count;
+    }
+
+    private static int[] append(int[] path, int i) {
+        final int[] next = Arrays.copyOf(path, path.length + 1);
+        next[path.length] = i;
+        return next;
+    }
+
+    @Test
+    public void testDecode() {
+        final byte[] encoded = FUNCTION.getOutputs().encode(values()).array();
+        assertEquals("zzz", FUNCTION.decodeReturn(encoded, Path.of(5, 2, 1, 1)));
+        assertEquals(65535, (int) FUNCTION.decodeReturn(encoded, Path.of(1, 2, 1, 0)));
+
+        final ByteBuffer bb = ByteBuffer.allocate(encoded.length + 3);
+        bb.position(3);
+        bb.put(encoded);
+        bb.position(3);
+        final Projection<BigInteger> p = Projection.compile(FUNCTION.getOutputs(), Path.of(4, 1, 1));
+        assertEquals(BigInteger.valueOf(-1L), FUNCTION.decodeReturn(bb, p));
+        assertEquals(3, bb.position());
+        assertSame(FUNCTION.getOutputs(), p.getRoot());
+        assertEquals(Path.of(4, 1, 1), p.getPath());
+        assertEquals("(uint8,(string,uint16[])[],bytes,(bool,int24)[2],int256[2][],(uint8,(bytes1,string))[3])[4, 1, 1] -> int256", p.toString());
+    }
+
+    @Test
+    public void testErrors() throws Throwable {
+        assertThrown(IllegalArgumentException.class, "negative index: -1", () -> Path.of(0, -1));
+        assertThrown(IllegalArgumentException.class, "path position 0: index 6 out of bounds for length 6", () -> FUNCTION.project(Path.of(6)));
+        assertThrown(IllegalArgumentException.class, "path position 1: index 2 out of bounds for length 2", () -> FUNCTION.project(Path.of(3, 2)));
+        assertThrown(IllegalArgumentException.class, "path position 1: can't index into bytes", () -> FUNCTION.project(Path.of(2, 0)));
+        assertThrown(IllegalArgumentException.class, "path position 1: can't index into uint8", () -> FUNCTION.project(Path.of(0, 0)));
+
+        final byte[] encoded = FUNCTION.getOutputs().encode(values()).array();
+        assertThrown(IllegalArgumentException.class, "tuple index 1: array index 3: index 3 out of bounds for length 3", () -> FUNCTION.decodeReturn(encoded, Path.of(1, 3, 0)));
+        assertThrown(IllegalArgumentException.class, "projection not compiled for output type (uint8)", () -> new Function("bar()", "(uint8)").decodeReturn(encoded, FUNCTION.project(Path.of(0))));
+
+        encoded[31] = 0;
+        encoded[30] = 1;
+        assertThrown(IllegalArgumentException.class, "tuple index 0: unsigned val exceeds bit limit: 9 > 8", () -> FUNCTION.decodeReturn(encoded, Path.of(0)));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+   Copyright 2026 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ValidateEncodingTest {
+
+    private static String outcome(Runnable r) {
+        try {
+            r.run();
+            return "ok";
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    private static void assertSameOutcome(TupleType<?> tt, byte[] encoded) {
+        final String expected = outcome(() -> tt.decode(encoded));
+        assertEquals(expected, outcome(() -> tt.validateEncoding(encoded)), tt.canonicalType);
+        final ByteBuffer a = ByteBuffer.wrap(encoded);
+        final ByteBuffer b = ByteBuffer.wrap(encoded);
+        if ("ok".equals(outcome(() -> tt.decode(a)))) {
+            tt.validateEncoding(b);
+            assertEquals(a.position(), b.position());
+        }
+    }
+
+    @Test
+    public void testMonteCarlo() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final MonteCarloTestCase.Limits limits = new MonteCarloTestCase.Limits(3, 3, 3, 3);
+        final Random instance = new Random();
+        long seed = TestUtils.getSeed();
+        for (int i = 0; i < 1000; i++, seed++) {
+            final MonteCarloTestCase testCase = new MonteCarloTestCase(seed, limits, instance, Function.newDefaultDigest());
+            final TupleType<Tuple> tt = testCase.function.getInputs();
+            final byte[] encoded = tt.encode(testCase.argsTuple).array();
+            tt.validateEncoding(encoded);
+            assertSameOutcome(tt, encoded);
+            assertSameOutcome(TupleType.parse(ABIType.FLAG_LEGACY_DECODE, tt.canonicalType), encoded);
+            if (encoded.length > 0) {
+                for (int j = 0; j < 8; j++) {
+                    final byte[] mutated = encoded.clone();
+                    mutated[r.nextInt(mutated.length)] = (byte) r.nextInt();
+                    assertSameOutcome(tt, mutated);
+                }
+                assertSameOutcome(tt, Arrays.copyOf(encoded, r.nextInt(encoded.length)));
+            }
+        }
+    }
+
+    @Test
+    public void testRanges() throws Throwable {
+        for (String type : new String[] { "uint8", "int8", "uint64", "int64", "uint72", "int72", "int136", "uint200", "int256", "uint256", "bool", "address", "fixed128x18", "ufixed128x18" }) {
+            final TupleType<?> tt = TupleType.parse("(" + type + ")");
+            for (int bit = 0; bit < 256; bit++) {
+                final byte[] encoded = new byte[32];
+                encoded[31 - bit / 8] = (byte) (1 << (bit % 8));
+                assertSameOutcome(tt, encoded);
+                Arrays.fill(encoded, (byte) 0xff);
+                encoded[31 - bit / 8] &= (byte) ~(1 << (bit % 8));
+                assertSameOutcome(tt, encoded);
+            }
+        }
+    }
+
+    @Test
+    public void testErrors() throws Throwable {
+        final TupleType<Tuple> tt = TupleType.parse("(bool,bytes)");
+        final byte[] encoded = tt.encode(Tuple.of(true, new byte[] { 1 })).array();
+        tt.validateEncoding(encoded);
+        assertThrown(IllegalArgumentException.class, "unconsumed bytes: 1 remaining", () -> tt.validateEncoding(Arrays.copyOf(encoded, encoded.length + 1)));
+        encoded[encoded.length - 1] = 1;
+        assertThrown(IllegalArgumentException.class, "tuple index 1: malformed array: non-zero padding byte", () -> tt.validateEncoding(encoded));
+        TupleType.parse(ABIType.FLAG_LEGACY_DECODE, "(bool,bytes)").validateEncoding(ByteBuffer.wrap(encoded));
+        encoded[31] = 2;
+        assertThrown(IllegalArgumentException.class, "tuple index 0: unsigned val exceeds bit limit: 2 > 1", () -> tt.validateEncoding(encoded));
+    }
+}
@@ -22,6 +22,7 @@ import com.esaulpaugh.headlong.util.Strings;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.security.DigestException;
 import java.security.MessageDigest;
@@ -202,6 +203,39 @@ public class KeccakTest {
         }
     }
 
+    @Test
+    public void testBufferKinds() {
+        final Random r = TestUtils.seededRandom();
+        final byte[] buffer = TestUtils.randomBytes(700, r);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(buffer.length);
+        direct.put(buffer);
+        final Keccak[] ks = new Keccak[] { new Keccak(256), new Keccak(256), new Keccak(256), new Keccak(256) };
+        final MessageDigest expected = new WrappedKeccak(256);
+        for (int i = 0; i < 50; i++) {
+            final int numUpdates = r.nextInt(12);
+            for (int j = 0; j < numUpdates; j++) {
+                final int end = r.nextInt(buffer.length + 1);
+                final int start = end == 0 ? 0 : r.nextInt(end);
+                expected.update(buffer, start, end - start);
+                ks[0].update(buffer, start, end - start);
+                ks[1].update(sliceAt(ByteBuffer.wrap(buffer), start, end));
+                ks[2].update(sliceAt(ByteBuffer.wrap(buffer).asReadOnlyBuffer(), start, end));
+                final ByteBuffer d = sliceAt(direct.duplicate(), start, end);
+                ks[3].update(d);
+                assertEquals(end, d.position());
+            }
+            final byte[] digest = expected.digest();
+            for (Keccak k : ks) {
+                assertArrayEquals(digest, k.digest());
+            }
+        }
+    }
+
+    private static ByteBuffer sliceAt(ByteBuffer bb, int start, int end) {
+        bb.limit(end).position(start);
+        return bb;
+    }
+
     @Disabled("slow")
     @Test
     public void benchmark() {
@@ -246,4 +280,83 @@ public class KeccakTest {
         System.out.println(label + (elapsed / 1_000_000.0) + "ms");
         return elapsed;
     }
+
+    @Test
+    public void testOneShot() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final Keccak k = new Keccak(256);
+        final byte[] out = new byte[40];
+        for (int len = 0; len < 700; len++) {
+            final int off = r.nextInt(9);
+            final byte[] in = TestUtils.randomBytes(off + len + r.nextInt(9), r);
+            k.update(in, off, len);
+            final byte[] expected = k.digest();
+
+            Arrays.fill(out, (byte) 0);
+            Keccak.keccak256(in, off, len, out, 3);
+            assertArrayEquals(expected, Arrays.copyOfRange(out, 3, 35));
+
+            final byte[] selector = new byte[SELECTOR_LEN];
+            Keccak.keccak256(in, off, len, selector, 0, SELECTOR_LEN);
+            assertArrayEquals(Arrays.copyOf(expected, SELECTOR_LEN), selector);
+
+            for (ByteBuffer bb : new ByteBuffer[] { ByteBuffer.wrap(in, off, len), ByteBuffer.allocateDirect(len) }) {
+                if (bb.isDirect()) {
+                    bb.put(in, off, len).flip();
+                }
+                final ByteBuffer dest = ByteBuffer.allocate(34);
+                dest.position(1);
+                Keccak.keccak256(bb, dest);
+                assertEquals(0, bb.remaining());
+                assertEquals(33, dest.position());
+                assertArrayEquals(expected, Arrays.copyOfRange(dest.array(), 1, 33));
+            }
+        }
+        TestUtils.assertThrown(IndexOutOfBoundsException.class, () -> Keccak.keccak256(new byte[10], 5, 6, out, 0));
+        TestUtils.assertThrown(IndexOutOfBoundsException.class, () -> Keccak.keccak256(new byte[10], 0, 10, out, 9));
+        TestUtils.assertThrown(IndexOutOfBoundsException.class, () -> Keccak.keccak256(new byte[10], -1, 1, out, 0));
+        TestUtils.assertThrown(IllegalArgumentException.class, "outLen exceeds digest length: 33 > 32", () -> Keccak.keccak256(new byte[10], 0, 10, out, 0, 33));
+        TestUtils.assertThrown(BufferOverflowException.class, () -> Keccak.keccak256(ByteBuffer.allocate(1), ByteBuffer.allocate(31)));
+    }
+
+    @Test
+    public void testForkPrefix() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        for (int prefixLen : new int[] { 0, 1, 21, 135, 136, 137, 300 }) {
+            final byte[] prefix = TestUtils.randomBytes(prefixLen, r);
+            final Keccak base = new Keccak(256);
+            base.update(prefix);
+            final long[] snapshot = base.snapshot();
+            final Keccak fork = new Keccak(256);
+            for (int i = 0; i < 5; i++) {
+                final byte[] suffix = TestUtils.randomBytes(r.nextInt(200), r);
+                final byte[] expected = new Keccak(256).digest(concat(prefix, suffix));
+                base.copyInto(fork);
+                fork.update(suffix);
+                assertArrayEquals(expected, fork.digest());
+                fork.restore(snapshot);
+                fork.update(suffix);
+                assertArrayEquals(expected, fork.digest());
+            }
+            assertArrayEquals(new Keccak(256).digest(prefix), base.digest());
+        }
+        final Keccak k = new Keccak(256);
+        TestUtils.assertThrown(IllegalArgumentException.class, "digest length mismatch: 64 != 32", () -> k.copyInto(new Keccak(512)));
+        TestUtils.assertThrown(IllegalArgumentException.class, "bad snapshot length: 26 != 27", () -> k.restore(new long[26]));
+        TestUtils.assertThrown(IllegalArgumentException.class, "digest length mismatch: 32 != 64", () -> k.restore(new Keccak(512).snapshot()));
+        TestUtils.assertThrown(IllegalArgumentException.class, "digest length mismatch: 64 != 32", () -> new Keccak(512).restore(k.snapshot()));
+        final long[] bad = k.snapshot();
+        bad[25] = 1096;
+        TestUtils.assertThrown(IllegalArgumentException.class, "bad snapshot rateBits: 1096", () -> k.restore(bad));
+        bad[25] = 12;
+        TestUtils.assertThrown(IllegalArgumentException.class, "bad snapshot rateBits: 12", () -> k.restore(bad));
+        bad[25] = -8;
+        TestUtils.assertThrown(IllegalArgumentException.class, "bad snapshot rateBits: -8", () -> k.restore(bad));
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        final byte[] c = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, c, a.length, b.length);
+        return c;
+    }
 }